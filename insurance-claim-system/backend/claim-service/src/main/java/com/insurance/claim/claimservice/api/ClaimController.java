@@ -0,0 +1,76 @@
+package com.insurance.claim.claimservice.api;
+
+import com.insurance.claim.claimservice.application.dto.PaymentConfirmationDto;
+import com.insurance.claim.claimservice.application.mapper.ClaimEncoding;
+import com.insurance.claim.claimservice.application.mapper.ClaimField;
+import com.insurance.claim.claimservice.application.mapper.ClaimStreamWriter;
+import com.insurance.claim.claimservice.application.service.ClaimApplicationService;
+import com.insurance.claim.claimservice.domain.model.Claim;
+import com.insurance.claim.claimservice.domain.valueobject.ClaimStatus;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Claim endpoints. Lists are loaded in a read-only transaction and then streamed from the
+ * domain model after it commits, in the encoding negotiated from the Accept header,
+ * optionally restricted to a {@code fields} selection.
+ */
+@RestController
+@RequiredArgsConstructor
+public class ClaimController {
+
+    private final ClaimApplicationService claimApplicationService;
+    private final ClaimStreamWriter claimStreamWriter;
+
+    @GetMapping(value = "/customers/{customerId}/claims",
+                produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                            ClaimEncoding.SMILE_MEDIA_TYPE})
+    public void getClaimsByPolicyHolder(@PathVariable String customerId,
+                                        @RequestParam(required = false) String fields,
+                                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                        HttpServletResponse response) throws IOException {
+        ClaimEncoding encoding = ClaimEncoding.negotiate(accept);
+        Set<ClaimField> selected = ClaimField.parse(fields);
+        List<Claim> claims = claimApplicationService.loadClaimsByPolicyHolder(customerId);
+        response.setContentType(encoding.getMediaType().toString());
+        claimStreamWriter.writeClaims(claims, selected, encoding, response.getOutputStream());
+    }
+
+    @GetMapping(value = "/claims",
+                produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                            ClaimEncoding.SMILE_MEDIA_TYPE})
+    public void getClaims(@RequestParam(required = false) ClaimStatus status,
+                          @RequestParam(required = false) String fields,
+                          @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                          HttpServletResponse response) throws IOException {
+        ClaimEncoding encoding = ClaimEncoding.negotiate(accept);
+        Set<ClaimField> selected = ClaimField.parse(fields);
+        List<Claim> claims = claimApplicationService.loadClaims(status);
+        response.setContentType(encoding.getMediaType().toString());
+        claimStreamWriter.writeClaims(claims, selected, encoding, response.getOutputStream());
+    }
+
+    /**
+     * Receives payout confirmations from the payment service
+     */
+    @PostMapping("/claims/payments/confirmations")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void confirmPayments(@RequestBody List<PaymentConfirmationDto> confirmations) {
+        claimApplicationService.confirmPayments(confirmations);
+    }
+}
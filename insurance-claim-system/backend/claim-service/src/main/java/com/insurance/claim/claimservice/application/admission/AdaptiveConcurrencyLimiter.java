@@ -0,0 +1,239 @@
+package com.insurance.claim.claimservice.application.admission;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Gradient-based adaptive concurrency limiter.
+ * <p>
+ * The limit follows the ratio between the long-term and the recent request latency: while
+ * latency stays near its baseline the limit grows by roughly its square root per sample, and
+ * once queueing inside the service inflates latency the limit shrinks proportionally.
+ * Each {@link RequestPriority} may only use its share of the limit, lower classes never
+ * overtake queued higher ones, and callers that cannot be admitted before their deadline
+ * are shed with a {@link ServiceOverloadedException}.
+ */
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final int SHORT_WINDOW = 10;
+    private static final int LONG_WINDOW = 600;
+    private static final long MIN_RETRY_AFTER_SECONDS = 1;
+
+    private static final RequestPriority[] PRIORITIES = RequestPriority.values();
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final int[] queued = new int[PRIORITIES.length];
+    private final AtomicLong[] rejected = new AtomicLong[PRIORITIES.length];
+
+    private double limit;
+    private int inflight;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        for (int i = 0; i < rejected.length; i++) {
+            rejected[i] = new AtomicLong();
+        }
+    }
+
+    /**
+     * Admits a request, queueing it until its priority's deadline if the limit is reached
+     * @throws ServiceOverloadedException if the request cannot be admitted in time
+     */
+    public Permit acquire(RequestPriority priority) {
+        long deadline = System.nanoTime() + priority.getMaxWait().toNanos();
+        int index = priority.ordinal();
+
+        lock.lock();
+        try {
+            if (!canAdmit(priority)) {
+                if (queued[index] >= allowedFor(priority)) {
+                    throw reject(priority);
+                }
+                queued[index]++;
+                try {
+                    long remaining = deadline - System.nanoTime();
+                    while (!canAdmit(priority)) {
+                        if (remaining <= 0) {
+                            throw reject(priority);
+                        }
+                        remaining = released.awaitNanos(remaining);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw reject(priority);
+                } finally {
+                    queued[index]--;
+                    // Lower priorities may have been held back by this waiter
+                    released.signalAll();
+                }
+            }
+            inflight++;
+            return new Permit(priority, System.nanoTime(), inflight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases an admitted request and feeds its latency into the limit
+     */
+    public void release(Permit permit) {
+        long rttNanos = Math.max(1, System.nanoTime() - permit.getStartNanos());
+
+        lock.lock();
+        try {
+            inflight--;
+            onSample(rttNanos, permit.getInflightAtStart());
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInflight() {
+        lock.lock();
+        try {
+            return inflight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued(RequestPriority priority) {
+        lock.lock();
+        try {
+            return queued[priority.ordinal()];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejected(RequestPriority priority) {
+        return rejected[priority.ordinal()].get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("claim.admission.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit for claim commands")
+                .register(registry);
+        Gauge.builder("claim.admission.inflight", this, AdaptiveConcurrencyLimiter::getInflight)
+                .description("Claim commands currently executing")
+                .register(registry);
+        Gauge.builder("claim.admission.rtt.long", this, limiter -> limiter.getLongRttNanos() / 1e9)
+                .description("Long-term average claim command latency")
+                .baseUnit("seconds")
+                .register(registry);
+        for (RequestPriority priority : PRIORITIES) {
+            Gauge.builder("claim.admission.queued", this, limiter -> limiter.getQueued(priority))
+                    .description("Claim commands waiting for admission")
+                    .tag("priority", priority.name())
+                    .register(registry);
+            FunctionCounter.builder("claim.admission.rejected", this, limiter -> limiter.getRejected(priority))
+                    .description("Claim commands shed by admission control")
+                    .tag("priority", priority.name())
+                    .register(registry);
+        }
+    }
+
+    private boolean canAdmit(RequestPriority priority) {
+        for (int i = 0; i < priority.ordinal(); i++) {
+            if (queued[i] > 0) {
+                return false;
+            }
+        }
+        return inflight < allowedFor(priority);
+    }
+
+    private int allowedFor(RequestPriority priority) {
+        return Math.max(1, (int) (limit * priority.getLimitShare()));
+    }
+
+    private void onSample(long rttNanos, int inflightAtStart) {
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+        } else {
+            shortRttNanos += (rttNanos - shortRttNanos) / SHORT_WINDOW;
+            longRttNanos += (rttNanos - longRttNanos) / LONG_WINDOW;
+        }
+
+        // Let the baseline recover quickly once a long stretch of high latency is over
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        // Only adjust the limit while the service is actually using it
+        if (inflightAtStart < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRttNanos / shortRttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    private double getLongRttNanos() {
+        lock.lock();
+        try {
+            return longRttNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ServiceOverloadedException reject(RequestPriority priority) {
+        rejected[priority.ordinal()].incrementAndGet();
+
+        int waiting = 0;
+        for (int count : queued) {
+            waiting += count;
+        }
+        double drainNanos = longRttNanos * (inflight + waiting) / limit;
+        long retryAfterSeconds = Math.max(MIN_RETRY_AFTER_SECONDS,
+                (long) Math.ceil(drainNanos / TimeUnit.SECONDS.toNanos(1)));
+
+        return new ServiceOverloadedException(
+                "Claim service is over capacity for " + priority + " requests",
+                Duration.ofSeconds(retryAfterSeconds));
+    }
+
+    @Value
+    public static class Permit {
+        RequestPriority priority;
+        long startNanos;
+        int inflightAtStart;
+    }
+}
@@ -0,0 +1,32 @@
+package com.insurance.claim.claimservice.application.admission;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs {@link AdmissionControlled} methods through the limiter. Ordered ahead of the
+ * transaction interceptor so shed requests never take a database connection.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class AdmissionControlAspect {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    @Around("@annotation(admissionControlled)")
+    public Object admit(ProceedingJoinPoint joinPoint, AdmissionControlled admissionControlled) throws Throwable {
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire(admissionControlled.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            limiter.release(permit);
+        }
+    }
+}
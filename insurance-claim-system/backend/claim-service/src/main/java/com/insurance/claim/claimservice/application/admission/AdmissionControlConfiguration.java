@@ -0,0 +1,17 @@
+package com.insurance.claim.claimservice.application.admission;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AdmissionControlConfiguration {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter claimCommandLimiter(
+            @Value("${claim.admission.initial-limit:20}") int initialLimit,
+            @Value("${claim.admission.min-limit:4}") int minLimit,
+            @Value("${claim.admission.max-limit:200}") int maxLimit) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit);
+    }
+}
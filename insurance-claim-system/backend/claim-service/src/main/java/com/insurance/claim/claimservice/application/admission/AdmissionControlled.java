@@ -0,0 +1,16 @@
+package com.insurance.claim.claimservice.application.admission;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a command method whose invocations must be admitted by the {@link AdaptiveConcurrencyLimiter}
+ * before any transaction is opened
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdmissionControlled {
+    RequestPriority value();
+}
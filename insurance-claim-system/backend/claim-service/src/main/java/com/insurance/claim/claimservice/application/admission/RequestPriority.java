@@ -0,0 +1,30 @@
+package com.insurance.claim.claimservice.application.admission;
+
+import java.time.Duration;
+
+/**
+ * Priority classes for admission control, highest first.
+ * Each class may use a share of the current concurrency limit and may queue
+ * for at most its maximum wait before being shed.
+ */
+public enum RequestPriority {
+    ADJUSTER(1.0, Duration.ofSeconds(2)),
+    POLICYHOLDER(0.8, Duration.ofMillis(500)),
+    BULK_IMPORT(0.5, Duration.ofMillis(50));
+
+    private final double limitShare;
+    private final Duration maxWait;
+
+    RequestPriority(double limitShare, Duration maxWait) {
+        this.limitShare = limitShare;
+        this.maxWait = maxWait;
+    }
+
+    public double getLimitShare() {
+        return limitShare;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+}
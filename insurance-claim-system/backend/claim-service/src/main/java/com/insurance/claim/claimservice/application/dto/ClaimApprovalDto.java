@@ -0,0 +1,19 @@
+package com.insurance.claim.claimservice.application.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+public class ClaimApprovalDto {
+    private UUID claimId;
+    private String claimNumber;
+    private String payeeId;
+    private BigDecimal amount;
+    private String currency;
+    private LocalDateTime approvalDate;
+}
@@ -0,0 +1,56 @@
+package com.insurance.claim.claimservice.application.mapper;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Wire formats supported when streaming claims, negotiated from the Accept header
+ */
+public enum ClaimEncoding {
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(MediaType.parseMediaType(ClaimEncoding.SMILE_MEDIA_TYPE));
+
+    public static final String SMILE_MEDIA_TYPE = "application/x-jackson-smile";
+
+    private final MediaType mediaType;
+
+    ClaimEncoding(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Picks the encoding for an Accept header, honouring quality values and preferring specific
+     * types over wildcards of the same quality. An absent header or a wildcard falls back to JSON.
+     */
+    public static ClaimEncoding negotiate(String acceptHeader) {
+        if (acceptHeader == null || acceptHeader.isBlank()) {
+            return JSON;
+        }
+
+        List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(acceptHeader));
+        // The quality sort is stable, so equally weighted types stay ordered most specific first
+        MimeTypeUtils.sortBySpecificity(accepted);
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() == 0.0) {
+                continue;
+            }
+            for (ClaimEncoding encoding : values()) {
+                if (mediaType.includes(encoding.mediaType)) {
+                    return encoding;
+                }
+            }
+        }
+        throw new IllegalArgumentException("No supported claim encoding for Accept: " + acceptHeader);
+    }
+}
@@ -0,0 +1,62 @@
+package com.insurance.claim.claimservice.application.mapper;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Top-level fields of the claim response representation that can be selected
+ * when streaming claims. Names match the properties of {@code ClaimResponseDto}.
+ */
+public enum ClaimField {
+    ID("id"),
+    CLAIM_NUMBER("claimNumber"),
+    POLICY_HOLDER_ID("policyHolderId"),
+    POLICY_NUMBER("policyNumber"),
+    POLICY_TYPE("policyType"),
+    INCIDENT_DATE("incidentDate"),
+    INCIDENT_DESCRIPTION("incidentDescription"),
+    CLAIM_AMOUNT("claimAmount"),
+    CURRENCY("currency"),
+    STATUS("status"),
+    SUBMISSION_DATE("submissionDate"),
+    PROCESSING_DATE("processingDate"),
+    DOCUMENTS("documents"),
+    REJECTION_REASON("rejectionReason");
+
+    private final String fieldName;
+
+    ClaimField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public static ClaimField fromFieldName(String fieldName) {
+        return Arrays.stream(values())
+            .filter(field -> field.fieldName.equals(fieldName))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown claim field: " + fieldName));
+    }
+
+    /**
+     * Parses a comma separated field selection such as {@code "id,claimNumber,status"}
+     * @param fields The selection, or null/blank to select every field
+     * @return The selected fields
+     */
+    public static Set<ClaimField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(ClaimField.class);
+        }
+
+        Set<ClaimField> selected = EnumSet.noneOf(ClaimField.class);
+        for (String fieldName : fields.split(",")) {
+            if (!fieldName.isBlank()) {
+                selected.add(fromFieldName(fieldName.trim()));
+            }
+        }
+        return selected;
+    }
+}
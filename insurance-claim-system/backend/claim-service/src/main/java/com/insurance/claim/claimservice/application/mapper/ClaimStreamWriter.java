@@ -0,0 +1,111 @@
+package com.insurance.claim.claimservice.application.mapper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.insurance.claim.claimservice.domain.model.Claim;
+import com.insurance.claim.claimservice.domain.model.Document;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes claims straight from the domain model to the response stream.
+ * Produces the same shape as {@link ClaimMapper#toClaimResponseDtoList(List)} serialized by Jackson,
+ * without building intermediate DTOs or reflecting over them.
+ */
+@Component
+public class ClaimStreamWriter {
+
+    private final JsonFactory jsonFactory = JsonFactory.builder()
+        .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+        .build();
+    private final CBORFactory cborFactory = CBORFactory.builder()
+        .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+        .build();
+    private final SmileFactory smileFactory = SmileFactory.builder()
+        .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+        .build();
+
+    public void writeClaims(List<Claim> claims, Set<ClaimField> fields,
+                            ClaimEncoding encoding, OutputStream out) throws IOException {
+        try (JsonGenerator generator = factoryFor(encoding).createGenerator(out)) {
+            generator.writeStartArray(claims, claims.size());
+            for (Claim claim : claims) {
+                writeClaim(generator, claim, fields);
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private JsonFactory factoryFor(ClaimEncoding encoding) {
+        return switch (encoding) {
+            case JSON -> jsonFactory;
+            case CBOR -> cborFactory;
+            case SMILE -> smileFactory;
+        };
+    }
+
+    private void writeClaim(JsonGenerator generator, Claim claim, Set<ClaimField> fields) throws IOException {
+        generator.writeStartObject();
+        for (ClaimField field : fields) {
+            generator.writeFieldName(field.getFieldName());
+            switch (field) {
+                case ID -> generator.writeString(claim.getId().getValue().toString());
+                case CLAIM_NUMBER -> writeString(generator, claim.getClaimNumber());
+                case POLICY_HOLDER_ID -> writeString(generator, claim.getPolicyHolderId());
+                case POLICY_NUMBER -> writeString(generator, claim.getPolicyDetails().getPolicyNumber());
+                case POLICY_TYPE -> writeString(generator, claim.getPolicyDetails().getPolicyType());
+                case INCIDENT_DATE -> writeDateTime(generator, claim.getIncidentDate());
+                case INCIDENT_DESCRIPTION -> writeString(generator, claim.getIncidentDescription());
+                case CLAIM_AMOUNT -> generator.writeNumber(claim.getClaimAmount().getAmount());
+                case CURRENCY -> generator.writeString(claim.getClaimAmount().getCurrency().name());
+                case STATUS -> generator.writeString(claim.getStatus().name());
+                case SUBMISSION_DATE -> writeDateTime(generator, claim.getSubmissionDate());
+                case PROCESSING_DATE -> writeDateTime(generator, claim.getProcessingDate());
+                case DOCUMENTS -> writeDocuments(generator, claim.getDocuments());
+                case REJECTION_REASON -> writeString(generator, claim.getRejectionReason());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeDocuments(JsonGenerator generator, List<Document> documents) throws IOException {
+        generator.writeStartArray(documents, documents.size());
+        for (Document document : documents) {
+            generator.writeStartObject();
+            generator.writeStringField("id", document.getId().getValue().toString());
+            generator.writeFieldName("fileName");
+            writeString(generator, document.getFileName());
+            generator.writeFieldName("contentType");
+            writeString(generator, document.getContentType());
+            generator.writeFieldName("documentType");
+            writeString(generator, document.getDocumentType() != null ? document.getDocumentType().name() : null);
+            generator.writeFieldName("uploadedAt");
+            writeDateTime(generator, document.getUploadedAt());
+            generator.writeFieldName("uploadedBy");
+            writeString(generator, document.getUploadedBy());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeString(JsonGenerator generator, String value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    private void writeDateTime(JsonGenerator generator, LocalDateTime value) throws IOException {
+        writeString(generator, value != null ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value) : null);
+    }
+}
@@ -1,8 +1,11 @@
 package com.insurance.claim.claimservice.application.service;
 
+import com.insurance.claim.claimservice.application.admission.AdmissionControlled;
+import com.insurance.claim.claimservice.application.admission.RequestPriority;
 import com.insurance.claim.claimservice.application.dto.ClaimResponseDto;
 import com.insurance.claim.claimservice.application.dto.CreateClaimDto;
 import com.insurance.claim.claimservice.application.dto.DocumentDto;
+import com.insurance.claim.claimservice.application.dto.PaymentConfirmationDto;
 import com.insurance.claim.claimservice.application.mapper.ClaimMapper;
 import com.insurance.claim.claimservice.domain.exception.ClaimNotFoundException;
 import com.insurance.claim.claimservice.domain.model.Claim;
@@ -12,13 +15,17 @@ import com.insurance.claim.claimservice.domain.valueobject.ClaimId;
 import com.insurance.claim.claimservice.domain.valueobject.ClaimStatus;
 import com.insurance.claim.common.domain.valueobjects.Money;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ClaimApplicationService {
@@ -26,9 +33,26 @@ public class ClaimApplicationService {
     private final ClaimRepository claimRepository;
     private final ClaimDomainService claimDomainService;
     private final ClaimMapper claimMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
     
+    @AdmissionControlled(RequestPriority.POLICYHOLDER)
     @Transactional
     public ClaimResponseDto createClaim(CreateClaimDto createClaimDto) {
+        return submitClaim(createClaimDto);
+    }
+    
+    /**
+     * Creates a claim on behalf of a bulk import. Same as {@link #createClaim(CreateClaimDto)},
+     * but admitted at the lowest priority so imports are shed before interactive traffic.
+     */
+    @AdmissionControlled(RequestPriority.BULK_IMPORT)
+    @Transactional
+    public ClaimResponseDto importClaim(CreateClaimDto createClaimDto) {
+        return submitClaim(createClaimDto);
+    }
+    
+    private ClaimResponseDto submitClaim(CreateClaimDto createClaimDto) {
         var policyDetails = claimMapper.toPolicyDetails(createClaimDto);
         var claimAmount = claimMapper.toClaimAmount(createClaimDto);
         
@@ -45,7 +69,7 @@ public class ClaimApplicationService {
             claim.rejectClaim("Claim validation failed: policy not active or claim amount exceeds coverage");
         }
         
-        Claim savedClaim = claimRepository.save(claim);
+        Claim savedClaim = saveAndPublish(claim);
         return claimMapper.toClaimResponseDto(savedClaim);
     }
     
@@ -77,17 +101,37 @@ public class ClaimApplicationService {
         return claimMapper.toClaimResponseDtoList(claims);
     }
     
+    /**
+     * Loads a policy holder's claims for streaming. The caller writes them out after this
+     * read-only transaction has ended, so no connection is held while the response streams.
+     */
+    @Transactional(readOnly = true)
+    public List<Claim> loadClaimsByPolicyHolder(String policyHolderId) {
+        return claimRepository.findByPolicyHolderId(policyHolderId);
+    }
+    
+    /**
+     * Loads claims, optionally restricted to one status, for streaming
+     * @see #loadClaimsByPolicyHolder(String)
+     */
+    @Transactional(readOnly = true)
+    public List<Claim> loadClaims(ClaimStatus status) {
+        return status != null ? claimRepository.findByStatus(status) : claimRepository.findAll();
+    }
+    
+    @AdmissionControlled(RequestPriority.ADJUSTER)
     @Transactional
     public ClaimResponseDto processClaim(UUID claimId) {
         Claim claim = claimRepository.findById(new ClaimId(claimId))
                 .orElseThrow(() -> new ClaimNotFoundException("Claim not found with id: " + claimId));
         
         claim.processClaim();
-        Claim savedClaim = claimRepository.save(claim);
+        Claim savedClaim = saveAndPublish(claim);
         
         return claimMapper.toClaimResponseDto(savedClaim);
     }
     
+    @AdmissionControlled(RequestPriority.ADJUSTER)
     @Transactional
     public ClaimResponseDto approveClaim(UUID claimId, BigDecimal approvedAmount) {
         Claim claim = claimRepository.findById(new ClaimId(claimId))
@@ -96,21 +140,98 @@ public class ClaimApplicationService {
         Money approvedMoney = Money.of(approvedAmount, claim.getClaimAmount().getCurrency());
         claim.approveClaim(approvedMoney);
         
-        Claim savedClaim = claimRepository.save(claim);
+        Claim savedClaim = saveAndPublish(claim);
         return claimMapper.toClaimResponseDto(savedClaim);
     }
     
+    @AdmissionControlled(RequestPriority.ADJUSTER)
     @Transactional
     public ClaimResponseDto rejectClaim(UUID claimId, String reason) {
         Claim claim = claimRepository.findById(new ClaimId(claimId))
                 .orElseThrow(() -> new ClaimNotFoundException("Claim not found with id: " + claimId));
         
         claim.rejectClaim(reason);
-        Claim savedClaim = claimRepository.save(claim);
+        Claim savedClaim = saveAndPublish(claim);
+        
+        return claimMapper.toClaimResponseDto(savedClaim);
+    }
+    
+    /**
+     * Moves claims that were handed to the payment service to PAYMENT_PENDING in one transaction.
+     * Claims that left APPROVED in the meantime are left alone.
+     */
+    @Transactional
+    public void markPaymentPending(List<UUID> claimIds) {
+        for (UUID claimId : claimIds) {
+            claimRepository.findById(new ClaimId(claimId))
+                    .filter(claim -> claim.getStatus() == ClaimStatus.APPROVED)
+                    .ifPresent(claim -> {
+                        claim.schedulePayment();
+                        saveAndPublish(claim);
+                    });
+        }
+    }
+    
+    /**
+     * Reconciles completed payouts back into the claims, each confirmation in its own transaction.
+     * Confirmations for claims that are already PAID or CLOSED are ignored, so the payment side can
+     * safely redeliver them. A confirmation that can never apply is logged and skipped rather than
+     * blocking the rest of the batch; any other failure is rethrown once the batch has been processed,
+     * so the payment side retries it.
+     */
+    public void confirmPayments(List<PaymentConfirmationDto> confirmations) {
+        RuntimeException retryable = null;
+        for (PaymentConfirmationDto confirmation : confirmations) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> confirmPayment(confirmation));
+            } catch (ClaimNotFoundException | IllegalArgumentException | IllegalStateException e) {
+                log.warn("Skipping payment confirmation for claim {}: {}", confirmation.getClaimId(), e.getMessage());
+            } catch (RuntimeException e) {
+                if (retryable == null) {
+                    retryable = e;
+                } else {
+                    retryable.addSuppressed(e);
+                }
+            }
+        }
+        if (retryable != null) {
+            throw retryable;
+        }
+    }
+    
+    private void confirmPayment(PaymentConfirmationDto confirmation) {
+        if (confirmation.getClaimId() == null || confirmation.getPaymentReference() == null) {
+            throw new IllegalArgumentException("Payment confirmation needs a claim id and a payment reference");
+        }
+        
+        Claim claim = claimRepository.findById(new ClaimId(confirmation.getClaimId()))
+                .orElseThrow(() -> new ClaimNotFoundException("Claim not found with id: " + confirmation.getClaimId()));
+        
+        if (claim.getStatus() == ClaimStatus.PAID || claim.getStatus() == ClaimStatus.CLOSED) {
+            if (!confirmation.getPaymentReference().equals(claim.getPaymentReference())) {
+                log.warn("Claim {} was already paid under {}, ignoring payment {}", claim.getClaimNumber(),
+                        claim.getPaymentReference(), confirmation.getPaymentReference());
+            }
+            return;
+        }
+        
+        claim.markPaid(confirmation.getPaymentReference());
+        saveAndPublish(claim);
+    }
+    
+    @AdmissionControlled(RequestPriority.ADJUSTER)
+    @Transactional
+    public ClaimResponseDto closeClaim(UUID claimId) {
+        Claim claim = claimRepository.findById(new ClaimId(claimId))
+                .orElseThrow(() -> new ClaimNotFoundException("Claim not found with id: " + claimId));
+        
+        claim.closeClaim();
+        Claim savedClaim = saveAndPublish(claim);
         
         return claimMapper.toClaimResponseDto(savedClaim);
     }
     
+    @AdmissionControlled(RequestPriority.POLICYHOLDER)
     @Transactional
     public ClaimResponseDto addDocumentToClaim(UUID claimId, DocumentDto documentDto, String storageLocation) {
         Claim claim = claimRepository.findById(new ClaimId(claimId))
@@ -119,7 +240,14 @@ public class ClaimApplicationService {
         var document = claimMapper.toDocument(documentDto, storageLocation);
         claim.addDocument(document);
         
-        Claim savedClaim = claimRepository.save(claim);
+        Claim savedClaim = saveAndPublish(claim);
         return claimMapper.toClaimResponseDto(savedClaim);
     }
+    
+    private Claim saveAndPublish(Claim claim) {
+        Claim savedClaim = claimRepository.save(claim);
+        List.copyOf(claim.getDomainEvents()).forEach(eventPublisher::publishEvent);
+        claim.clearEvents();
+        return savedClaim;
+    }
 }
\ No newline at end of file
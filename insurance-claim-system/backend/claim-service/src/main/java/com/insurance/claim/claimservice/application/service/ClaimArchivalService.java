@@ -0,0 +1,54 @@
+package com.insurance.claim.claimservice.application.service;
+
+import com.insurance.claim.claimservice.domain.model.Claim;
+import com.insurance.claim.claimservice.domain.repository.ClaimArchive;
+import com.insurance.claim.claimservice.domain.repository.ClaimRepository;
+import com.insurance.claim.claimservice.domain.valueobject.ClaimStatus;
+import com.insurance.claim.claimservice.infrastructure.persistence.TieredClaimRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves CLOSED claims out of the hot store into the archive once they have been closed
+ * for longer than the configured grace period, keeping the hot working set small
+ */
+@Slf4j
+@Service
+public class ClaimArchivalService {
+
+    private final ClaimRepository hotStore;
+    private final ClaimArchive claimArchive;
+    private final Duration gracePeriod;
+
+    public ClaimArchivalService(@Qualifier(TieredClaimRepository.HOT_STORE) ClaimRepository hotStore,
+                                ClaimArchive claimArchive,
+                                @Value("${claim.archive.grace-period:P30D}") Duration gracePeriod) {
+        this.hotStore = hotStore;
+        this.claimArchive = claimArchive;
+        this.gracePeriod = gracePeriod;
+    }
+
+    @Scheduled(fixedDelayString = "${claim.archive.interval:PT1H}")
+    @Transactional
+    public void archiveClosedClaims() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(gracePeriod);
+        List<Claim> closedClaims = hotStore.findByStatus(ClaimStatus.CLOSED).stream()
+            .filter(claim -> claim.getClosedDate() == null || claim.getClosedDate().isBefore(cutoff))
+            .toList();
+        if (closedClaims.isEmpty()) {
+            return;
+        }
+
+        claimArchive.archive(closedClaims);
+        closedClaims.forEach(claim -> hotStore.deleteById(claim.getId()));
+        log.info("Archived {} closed claims", closedClaims.size());
+    }
+}
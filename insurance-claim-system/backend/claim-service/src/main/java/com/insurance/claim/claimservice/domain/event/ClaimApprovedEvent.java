@@ -0,0 +1,34 @@
+package com.insurance.claim.claimservice.domain.event;
+
+import com.insurance.claim.common.domain.model.DomainEvent;
+import com.insurance.claim.common.domain.valueobjects.Money;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+public class ClaimApprovedEvent implements DomainEvent {
+    private final UUID claimId;
+    private final String claimNumber;
+    private final String policyHolderId;
+    private final Money approvedAmount;
+    private final LocalDateTime approvalDate;
+    private final Instant occurredAt;
+    
+    public ClaimApprovedEvent(UUID claimId, String claimNumber, String policyHolderId,
+                             Money approvedAmount, LocalDateTime approvalDate) {
+        this.claimId = claimId;
+        this.claimNumber = claimNumber;
+        this.policyHolderId = policyHolderId;
+        this.approvedAmount = approvedAmount;
+        this.approvalDate = approvalDate;
+        this.occurredAt = Instant.now();
+    }
+
+    @Override
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+}
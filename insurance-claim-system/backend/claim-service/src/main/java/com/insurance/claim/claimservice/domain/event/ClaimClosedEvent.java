@@ -0,0 +1,28 @@
+package com.insurance.claim.claimservice.domain.event;
+
+import com.insurance.claim.common.domain.model.DomainEvent;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+public class ClaimClosedEvent implements DomainEvent {
+    private final UUID claimId;
+    private final String claimNumber;
+    private final LocalDateTime closedDate;
+    private final Instant occurredAt;
+    
+    public ClaimClosedEvent(UUID claimId, String claimNumber, LocalDateTime closedDate) {
+        this.claimId = claimId;
+        this.claimNumber = claimNumber;
+        this.closedDate = closedDate;
+        this.occurredAt = Instant.now();
+    }
+
+    @Override
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+}
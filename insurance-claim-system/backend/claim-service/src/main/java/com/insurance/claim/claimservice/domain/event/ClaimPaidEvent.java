@@ -0,0 +1,31 @@
+package com.insurance.claim.claimservice.domain.event;
+
+import com.insurance.claim.common.domain.model.DomainEvent;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+public class ClaimPaidEvent implements DomainEvent {
+    private final UUID claimId;
+    private final String claimNumber;
+    private final String paymentReference;
+    private final LocalDateTime paymentDate;
+    private final Instant occurredAt;
+    
+    public ClaimPaidEvent(UUID claimId, String claimNumber, String paymentReference,
+                         LocalDateTime paymentDate) {
+        this.claimId = claimId;
+        this.claimNumber = claimNumber;
+        this.paymentReference = paymentReference;
+        this.paymentDate = paymentDate;
+        this.occurredAt = Instant.now();
+    }
+
+    @Override
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -1,6 +1,9 @@
 package com.insurance.claim.claimservice.domain.model;
 
+import com.insurance.claim.claimservice.domain.event.ClaimApprovedEvent;
+import com.insurance.claim.claimservice.domain.event.ClaimClosedEvent;
 import com.insurance.claim.claimservice.domain.event.ClaimCreatedEvent;
+import com.insurance.claim.claimservice.domain.event.ClaimPaidEvent;
 import com.insurance.claim.claimservice.domain.event.ClaimProcessedEvent;
 import com.insurance.claim.claimservice.domain.event.ClaimRejectedEvent;
 import com.insurance.claim.claimservice.domain.valueobject.ClaimId;
@@ -29,6 +32,9 @@ public class Claim extends AggregateRoot<ClaimId> {
     private String rejectionReason;
     private LocalDateTime submissionDate;
     private LocalDateTime processingDate;
+    private String paymentReference;
+    private LocalDateTime paymentDate;
+    private LocalDateTime closedDate;
     
     private Claim(ClaimId id, String claimNumber, String policyHolderId, 
                  LocalDateTime incidentDate, String incidentDescription,
@@ -60,6 +66,29 @@ public class Claim extends AggregateRoot<ClaimId> {
         return claim;
     }
     
+    /**
+     * Rebuilds a claim from stored state without registering any events
+     */
+    public static Claim reconstitute(ClaimId id, String claimNumber, String policyHolderId,
+                                     LocalDateTime incidentDate, String incidentDescription,
+                                     PolicyDetails policyDetails, Money claimAmount, ClaimStatus status,
+                                     List<Document> documents, String rejectionReason,
+                                     LocalDateTime submissionDate, LocalDateTime processingDate,
+                                     String paymentReference, LocalDateTime paymentDate,
+                                     LocalDateTime closedDate) {
+        Claim claim = new Claim(id, claimNumber, policyHolderId, incidentDate, 
+                               incidentDescription, policyDetails, claimAmount);
+        claim.status = status;
+        claim.documents.addAll(documents);
+        claim.rejectionReason = rejectionReason;
+        claim.submissionDate = submissionDate;
+        claim.processingDate = processingDate;
+        claim.paymentReference = paymentReference;
+        claim.paymentDate = paymentDate;
+        claim.closedDate = closedDate;
+        return claim;
+    }
+    
     public void addDocument(Document document) {
         documents.add(document);
     }
@@ -86,6 +115,29 @@ public class Claim extends AggregateRoot<ClaimId> {
         
         status = ClaimStatus.APPROVED;
         claimAmount = approvedAmount;
+        
+        registerEvent(new ClaimApprovedEvent(getId().getValue(), claimNumber, policyHolderId, 
+                                             approvedAmount, LocalDateTime.now()));
+    }
+    
+    public void schedulePayment() {
+        if (status != ClaimStatus.APPROVED) {
+            throw new IllegalStateException("Claim payment cannot be scheduled as it's not in APPROVED state");
+        }
+        
+        status = ClaimStatus.PAYMENT_PENDING;
+    }
+    
+    public void markPaid(String paymentReference) {
+        if (status != ClaimStatus.APPROVED && status != ClaimStatus.PAYMENT_PENDING) {
+            throw new IllegalStateException("Claim cannot be marked paid as it's not in APPROVED or PAYMENT_PENDING state");
+        }
+        
+        status = ClaimStatus.PAID;
+        this.paymentReference = paymentReference;
+        paymentDate = LocalDateTime.now();
+        
+        registerEvent(new ClaimPaidEvent(getId().getValue(), claimNumber, paymentReference, paymentDate));
     }
     
     public void rejectClaim(String reason) {
@@ -99,6 +151,17 @@ public class Claim extends AggregateRoot<ClaimId> {
         registerEvent(new ClaimRejectedEvent(getId().getValue(), claimNumber, reason, LocalDateTime.now()));
     }
     
+    public void closeClaim() {
+        if (status != ClaimStatus.PAID && status != ClaimStatus.REJECTED) {
+            throw new IllegalStateException("Claim cannot be closed as it's not in PAID or REJECTED state");
+        }
+        
+        status = ClaimStatus.CLOSED;
+        closedDate = LocalDateTime.now();
+        
+        registerEvent(new ClaimClosedEvent(getId().getValue(), claimNumber, closedDate));
+    }
+    
     private static String generateClaimNumber() {
         // Format: CLM-YYYYMMDD-XXXXX (where XXXXX is random)
         return String.format("CLM-%tY%<tm%<td-%05d", 
@@ -19,12 +19,18 @@ public class Document extends Entity<DocumentId> {
     public Document(DocumentId id, String fileName, String contentType, 
                    String storageLocation, DocumentType documentType, 
                    String uploadedBy) {
+        this(id, fileName, contentType, storageLocation, documentType, uploadedBy, LocalDateTime.now());
+    }
+    
+    public Document(DocumentId id, String fileName, String contentType, 
+                   String storageLocation, DocumentType documentType, 
+                   String uploadedBy, LocalDateTime uploadedAt) {
         super(id);
         this.fileName = fileName;
         this.contentType = contentType;
         this.storageLocation = storageLocation;
         this.documentType = documentType;
-        this.uploadedAt = LocalDateTime.now();
+        this.uploadedAt = uploadedAt;
         this.uploadedBy = uploadedBy;
     }
 }
\ No newline at end of file
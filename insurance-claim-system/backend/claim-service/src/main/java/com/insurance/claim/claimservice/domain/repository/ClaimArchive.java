@@ -0,0 +1,27 @@
+package com.insurance.claim.claimservice.domain.repository;
+
+import com.insurance.claim.claimservice.domain.model.Claim;
+import com.insurance.claim.claimservice.domain.valueobject.ClaimId;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable cold store for CLOSED claims
+ */
+public interface ClaimArchive {
+    
+    /**
+     * Appends closed claims to the archive. Archived claims are never modified.
+     */
+    void archive(List<Claim> claims);
+    
+    Optional<Claim> findById(ClaimId claimId);
+    Optional<Claim> findByClaimNumber(String claimNumber);
+    List<Claim> findByPolicyHolderId(String policyHolderId);
+    
+    /**
+     * @return Every archived claim, most recently closed months first
+     */
+    List<Claim> findAll();
+}
@@ -14,4 +14,5 @@ public interface ClaimRepository {
     List<Claim> findByPolicyHolderId(String policyHolderId);
     List<Claim> findByStatus(ClaimStatus status);
     List<Claim> findAll();
+    void deleteById(ClaimId claimId);
 }
\ No newline at end of file
@@ -0,0 +1,468 @@
+package com.insurance.claim.claimservice.infrastructure.archive;
+
+import com.insurance.claim.claimservice.domain.model.Claim;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * One immutable archive segment file holding claims closed in a single month.
+ * <p>
+ * Claims are sorted by policy holder and written in deflate-compressed blocks. The footer
+ * carries a sparse index with the first policy holder id and file offset of each block plus the
+ * segment's last policy holder id and a {@link PolicyHolderFilter}, so a policy holder lookup skips
+ * segments that cannot hold it and only inflates the blocks that can. A segment produced by
+ * compaction also lists the sequences of the segments it replaces.
+ * <p>
+ * Layout: {@code block* footer trailer}, where the footer is
+ * {@code blockCount, (firstKey, offset, length)*, lastKey, recordCount, replacedCount, replaced*, filter}
+ * and the trailer is {@code footerOffset, MAGIC}. Segments written before the filter was added end
+ * their footer after {@code replaced*} and carry {@code LEGACY_MAGIC}.
+ */
+final class ArchiveSegment implements Closeable {
+
+    private static final long MAGIC = 0x434C4D4152434833L; // "CLMARCH3"
+    private static final long LEGACY_MAGIC = 0x434C4D4152434832L; // "CLMARCH2"
+    private static final int TRAILER_SIZE = 16;
+    private static final String FILE_PREFIX = "claims-";
+    private static final String FILE_SUFFIX = ".seg";
+
+    private static final Comparator<Claim> SEGMENT_ORDER = Comparator
+        .comparing(ArchiveSegment::sortKey)
+        .thenComparing(Claim::getClaimNumber, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final int sequence;
+    private final YearMonth partition;
+    private final FileChannel channel;
+    private final Path file;
+    private final String[] firstKeys;
+    private final long[] offsets;
+    private final int[] lengths;
+    private final String lastKey;
+    private final int recordCount;
+    private final Set<Integer> replacedSequences;
+    // Null for legacy segments, which only have their key range to rule a policy holder out
+    private final PolicyHolderFilter filter;
+
+    private ArchiveSegment(int sequence, YearMonth partition, FileChannel channel, Path file,
+                           String[] firstKeys, long[] offsets, int[] lengths, String lastKey,
+                           int recordCount, Set<Integer> replacedSequences, PolicyHolderFilter filter) {
+        this.sequence = sequence;
+        this.partition = partition;
+        this.channel = channel;
+        this.file = file;
+        this.firstKeys = firstKeys;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.lastKey = lastKey;
+        this.recordCount = recordCount;
+        this.replacedSequences = replacedSequences;
+        this.filter = filter;
+    }
+
+    /**
+     * Writes a new segment and reports the block offset of every claim to {@code located}.
+     * The file only becomes visible under its final name once it is completely written.
+     * @param replacedSequences Segments whose claims this one supersedes, empty unless compacting
+     */
+    static ArchiveSegment write(Path directory, int sequence, YearMonth partition, List<Claim> claims,
+                                int claimsPerBlock, Collection<Integer> replacedSequences,
+                                ObjLongConsumer<Claim> located) throws IOException {
+        List<Claim> sorted = new ArrayList<>(claims);
+        sorted.sort(SEGMENT_ORDER);
+        return write(directory, sequence, partition, sorted.iterator(), claimsPerBlock, replacedSequences, located);
+    }
+
+    /**
+     * Writes a new segment from claims that already come in segment order, holding only one
+     * block of them in memory at a time
+     */
+    static ArchiveSegment write(Path directory, int sequence, YearMonth partition, Iterator<Claim> sorted,
+                                int claimsPerBlock, Collection<Integer> replacedSequences,
+                                ObjLongConsumer<Claim> located) throws IOException {
+        if (!sorted.hasNext()) {
+            throw new IllegalArgumentException("An archive segment needs at least one claim");
+        }
+
+        Path target = directory.resolve(fileName(sequence, partition));
+        Path temp = directory.resolve(fileName(sequence, partition) + ".tmp");
+
+        List<String> firstKeys = new ArrayList<>();
+        List<Long> offsets = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        String lastKey = null;
+        int recordCount = 0;
+        // Claims come sorted by policy holder, so each distinct holder is hashed once
+        long[] keyHashes = new long[16];
+        int keyCount = 0;
+
+        try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(temp))) {
+            long position = 0;
+            List<Claim> blockClaims = new ArrayList<>(claimsPerBlock);
+            while (sorted.hasNext()) {
+                blockClaims.clear();
+                while (blockClaims.size() < claimsPerBlock && sorted.hasNext()) {
+                    blockClaims.add(sorted.next());
+                }
+                byte[] compressed = compressBlock(blockClaims);
+
+                firstKeys.add(sortKey(blockClaims.get(0)));
+                offsets.add(position);
+                lengths.add(compressed.length);
+                file.write(compressed);
+                for (Claim claim : blockClaims) {
+                    located.accept(claim, position);
+                    String key = sortKey(claim);
+                    if (!key.equals(lastKey)) {
+                        if (keyCount == keyHashes.length) {
+                            keyHashes = Arrays.copyOf(keyHashes, keyCount * 2);
+                        }
+                        keyHashes[keyCount++] = PolicyHolderFilter.hash(key);
+                        lastKey = key;
+                    }
+                }
+                position += compressed.length;
+                recordCount += blockClaims.size();
+            }
+
+            DataOutputStream footer = new DataOutputStream(file);
+            footer.writeInt(firstKeys.size());
+            for (int block = 0; block < firstKeys.size(); block++) {
+                ClaimRecordCodec.writeString(footer, firstKeys.get(block));
+                footer.writeLong(offsets.get(block));
+                footer.writeInt(lengths.get(block));
+            }
+            ClaimRecordCodec.writeString(footer, lastKey);
+            footer.writeInt(recordCount);
+            footer.writeInt(replacedSequences.size());
+            for (int replaced : replacedSequences) {
+                footer.writeInt(replaced);
+            }
+            PolicyHolderFilter.of(keyHashes, keyCount).write(footer);
+            footer.writeLong(position);
+            footer.writeLong(MAGIC);
+            footer.flush();
+        }
+
+        try (FileChannel written = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            written.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        return open(target);
+    }
+
+    static ArchiveSegment open(Path file) throws IOException {
+        String name = file.getFileName().toString();
+        if (!isSegmentFile(file)) {
+            throw new IllegalArgumentException("Not an archive segment: " + file);
+        }
+        // claims-YYYY-MM-NNNNNN.seg
+        String stem = name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length());
+        YearMonth partition = YearMonth.parse(stem.substring(0, 7));
+        int sequence = Integer.parseInt(stem.substring(8));
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            ByteBuffer trailer = readFully(channel, size - TRAILER_SIZE, TRAILER_SIZE);
+            long footerOffset = trailer.getLong();
+            long magic = trailer.getLong();
+            if (magic != MAGIC && magic != LEGACY_MAGIC) {
+                throw new IllegalStateException("Corrupt archive segment: " + file);
+            }
+
+            ByteBuffer footerBytes = readFully(channel, footerOffset, (int) (size - TRAILER_SIZE - footerOffset));
+            DataInputStream footer = new DataInputStream(new ByteArrayInputStream(
+                footerBytes.array(), footerBytes.arrayOffset(), footerBytes.remaining()));
+            int blockCount = footer.readInt();
+            String[] firstKeys = new String[blockCount];
+            long[] offsets = new long[blockCount];
+            int[] lengths = new int[blockCount];
+            for (int block = 0; block < blockCount; block++) {
+                firstKeys[block] = ClaimRecordCodec.readString(footer);
+                offsets[block] = footer.readLong();
+                lengths[block] = footer.readInt();
+            }
+            String lastKey = ClaimRecordCodec.readString(footer);
+            int recordCount = footer.readInt();
+            int replacedCount = footer.readInt();
+            Set<Integer> replacedSequences = new HashSet<>(replacedCount);
+            for (int i = 0; i < replacedCount; i++) {
+                replacedSequences.add(footer.readInt());
+            }
+            PolicyHolderFilter filter = magic == MAGIC ? PolicyHolderFilter.read(footer) : null;
+
+            return new ArchiveSegment(sequence, partition, channel, file, firstKeys, offsets, lengths,
+                lastKey, recordCount, Collections.unmodifiableSet(replacedSequences), filter);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    static boolean isSegmentFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+    }
+
+    int getSequence() {
+        return sequence;
+    }
+
+    YearMonth getPartition() {
+        return partition;
+    }
+
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    Set<Integer> getReplacedSequences() {
+        return replacedSequences;
+    }
+
+    /**
+     * Reads the first claim matching {@code filter} from the block starting at {@code blockOffset}
+     */
+    Optional<Claim> findInBlock(long blockOffset, Predicate<Claim> filter) throws IOException {
+        int block = Arrays.binarySearch(offsets, blockOffset);
+        if (block < 0) {
+            return Optional.empty();
+        }
+        return readBlock(block).stream().filter(filter).findFirst();
+    }
+
+    /**
+     * @return false if the policy holder lies outside this segment's key range or its filter
+     */
+    boolean mayContain(String policyHolderId) {
+        return firstKeys[0].compareTo(policyHolderId) <= 0 && lastKey.compareTo(policyHolderId) >= 0
+            && (filter == null || filter.mightContain(policyHolderId));
+    }
+
+    List<Claim> findByPolicyHolderId(String policyHolderId) throws IOException {
+        if (!mayContain(policyHolderId)) {
+            return List.of();
+        }
+        List<Claim> matches = new ArrayList<>();
+        for (int block = firstCandidateBlock(policyHolderId);
+             block < firstKeys.length && firstKeys[block].compareTo(policyHolderId) <= 0;
+             block++) {
+            for (Claim claim : readBlock(block)) {
+                if (policyHolderId.equals(claim.getPolicyHolderId())) {
+                    matches.add(claim);
+                }
+            }
+        }
+        return matches;
+    }
+
+    List<Claim> readAll() throws IOException {
+        List<Claim> claims = new ArrayList<>(recordCount);
+        for (int block = 0; block < firstKeys.length; block++) {
+            claims.addAll(readBlock(block));
+        }
+        return claims;
+    }
+
+    /**
+     * Iterates the claims in segment order, inflating one block at a time
+     */
+    Iterator<Claim> iterator() {
+        return new Iterator<>() {
+            private int nextBlock;
+            private Iterator<Claim> block = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!block.hasNext() && nextBlock < firstKeys.length) {
+                    try {
+                        block = readBlock(nextBlock++).iterator();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to read archive segment " + file, e);
+                    }
+                }
+                return block.hasNext();
+            }
+
+            @Override
+            public Claim next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return block.next();
+            }
+        };
+    }
+
+    /**
+     * Merges the claims of several segments into one iteration in segment order. Each segment is
+     * already sorted, so only the current block of every segment is held in memory.
+     */
+    static Iterator<Claim> merge(List<ArchiveSegment> segments) {
+        PriorityQueue<PeekingIterator> heads = new PriorityQueue<>(Math.max(1, segments.size()),
+            Comparator.comparing(PeekingIterator::peek, SEGMENT_ORDER));
+        for (ArchiveSegment segment : segments) {
+            PeekingIterator claims = new PeekingIterator(segment.iterator());
+            if (claims.hasNext()) {
+                heads.add(claims);
+            }
+        }
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public Claim next() {
+                PeekingIterator smallest = heads.poll();
+                if (smallest == null) {
+                    throw new NoSuchElementException();
+                }
+                Claim claim = smallest.next();
+                if (smallest.hasNext()) {
+                    heads.add(smallest);
+                }
+                return claim;
+            }
+        };
+    }
+
+    /**
+     * Visits every claim with its block offset, used to rebuild the location index
+     */
+    void forEachLocated(ObjLongConsumer<Claim> located) throws IOException {
+        for (int block = 0; block < firstKeys.length; block++) {
+            for (Claim claim : readBlock(block)) {
+                located.accept(claim, offsets[block]);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int firstCandidateBlock(String key) {
+        // The last block starting before the key may still hold it at its tail
+        int low = 0;
+        int high = firstKeys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (firstKeys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return Math.max(0, low - 1);
+    }
+
+    private List<Claim> readBlock(int block) throws IOException {
+        ByteBuffer compressed = readFully(channel, offsets[block], lengths[block]);
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(
+                compressed.array(), compressed.arrayOffset(), compressed.remaining())))) {
+            int count = in.readInt();
+            List<Claim> claims = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                claims.add(ClaimRecordCodec.read(in));
+            }
+            return claims;
+        }
+    }
+
+    private static byte[] compressBlock(List<Claim> claims) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeInt(claims.size());
+            for (Claim claim : claims) {
+                ClaimRecordCodec.write(out, claim);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of archive segment");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static final class PeekingIterator implements Iterator<Claim> {
+        private final Iterator<Claim> delegate;
+        private Claim head;
+
+        private PeekingIterator(Iterator<Claim> delegate) {
+            this.delegate = delegate;
+        }
+
+        Claim peek() {
+            if (head == null) {
+                head = delegate.next();
+            }
+            return head;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return head != null || delegate.hasNext();
+        }
+
+        @Override
+        public Claim next() {
+            Claim claim = peek();
+            head = null;
+            return claim;
+        }
+    }
+
+    private static String sortKey(Claim claim) {
+        return Objects.requireNonNullElse(claim.getPolicyHolderId(), "");
+    }
+
+    private static String fileName(int sequence, YearMonth partition) {
+        return String.format("%s%s-%06d%s", FILE_PREFIX, partition, sequence, FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,22 @@
+package com.insurance.claim.claimservice.infrastructure.archive;
+
+import com.insurance.claim.claimservice.infrastructure.index.ClaimLocationIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class ClaimArchiveConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public SegmentClaimArchive claimArchive(
+            @Value("${claim.archive.directory:data/claim-archive}") Path directory,
+            @Value("${claim.archive.claims-per-block:64}") int claimsPerBlock,
+            @Value("${claim.archive.max-segments-per-month:4}") int maxSegmentsPerMonth,
+            ClaimLocationIndex claimLocationIndex) throws IOException {
+        return SegmentClaimArchive.open(directory, claimsPerBlock, maxSegmentsPerMonth, claimLocationIndex);
+    }
+}
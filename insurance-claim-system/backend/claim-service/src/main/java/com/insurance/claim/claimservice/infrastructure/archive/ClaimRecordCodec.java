@@ -0,0 +1,177 @@
+package com.insurance.claim.claimservice.infrastructure.archive;
+
+import com.insurance.claim.claimservice.domain.model.Claim;
+import com.insurance.claim.claimservice.domain.model.Document;
+import com.insurance.claim.claimservice.domain.valueobject.ClaimId;
+import com.insurance.claim.claimservice.domain.valueobject.ClaimStatus;
+import com.insurance.claim.claimservice.domain.valueobject.DocumentId;
+import com.insurance.claim.claimservice.domain.valueobject.DocumentType;
+import com.insurance.claim.claimservice.domain.valueobject.PolicyDetails;
+import com.insurance.claim.common.domain.valueobjects.Currency;
+import com.insurance.claim.common.domain.valueobjects.Money;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Binary record format for archived claims
+ */
+final class ClaimRecordCodec {
+
+    private ClaimRecordCodec() {
+    }
+
+    static void write(DataOutput out, Claim claim) throws IOException {
+        writeUuid(out, claim.getId().getValue());
+        writeString(out, claim.getClaimNumber());
+        writeString(out, claim.getPolicyHolderId());
+        writeDateTime(out, claim.getIncidentDate());
+        writeString(out, claim.getIncidentDescription());
+
+        PolicyDetails policyDetails = claim.getPolicyDetails();
+        writeString(out, policyDetails.getPolicyNumber());
+        writeString(out, policyDetails.getPolicyType());
+        writeDate(out, policyDetails.getStartDate());
+        writeDate(out, policyDetails.getEndDate());
+        writeMoney(out, policyDetails.getCoverageLimit());
+        writeMoney(out, policyDetails.getDeductible());
+
+        writeMoney(out, claim.getClaimAmount());
+        out.writeUTF(claim.getStatus().name());
+        writeString(out, claim.getRejectionReason());
+        writeDateTime(out, claim.getSubmissionDate());
+        writeDateTime(out, claim.getProcessingDate());
+        writeString(out, claim.getPaymentReference());
+        writeDateTime(out, claim.getPaymentDate());
+        writeDateTime(out, claim.getClosedDate());
+
+        List<Document> documents = claim.getDocuments();
+        out.writeInt(documents.size());
+        for (Document document : documents) {
+            writeUuid(out, document.getId().getValue());
+            writeString(out, document.getFileName());
+            writeString(out, document.getContentType());
+            writeString(out, document.getStorageLocation());
+            writeString(out, document.getDocumentType() != null ? document.getDocumentType().name() : null);
+            writeString(out, document.getUploadedBy());
+            writeDateTime(out, document.getUploadedAt());
+        }
+    }
+
+    static Claim read(DataInput in) throws IOException {
+        ClaimId id = new ClaimId(readUuid(in));
+        String claimNumber = readString(in);
+        String policyHolderId = readString(in);
+        LocalDateTime incidentDate = readDateTime(in);
+        String incidentDescription = readString(in);
+
+        PolicyDetails policyDetails = new PolicyDetails(
+            readString(in),
+            readString(in),
+            readDate(in),
+            readDate(in),
+            readMoney(in),
+            readMoney(in));
+
+        Money claimAmount = readMoney(in);
+        ClaimStatus status = ClaimStatus.valueOf(in.readUTF());
+        String rejectionReason = readString(in);
+        LocalDateTime submissionDate = readDateTime(in);
+        LocalDateTime processingDate = readDateTime(in);
+        String paymentReference = readString(in);
+        LocalDateTime paymentDate = readDateTime(in);
+        LocalDateTime closedDate = readDateTime(in);
+
+        int documentCount = in.readInt();
+        List<Document> documents = new ArrayList<>(documentCount);
+        for (int i = 0; i < documentCount; i++) {
+            DocumentId documentId = new DocumentId(readUuid(in));
+            String fileName = readString(in);
+            String contentType = readString(in);
+            String storageLocation = readString(in);
+            String documentType = readString(in);
+            String uploadedBy = readString(in);
+            LocalDateTime uploadedAt = readDateTime(in);
+            documents.add(new Document(documentId, fileName, contentType, storageLocation,
+                documentType != null ? DocumentType.valueOf(documentType) : null, uploadedBy, uploadedAt));
+        }
+
+        return Claim.reconstitute(id, claimNumber, policyHolderId, incidentDate, incidentDescription,
+            policyDetails, claimAmount, status, documents, rejectionReason, submissionDate,
+            processingDate, paymentReference, paymentDate, closedDate);
+    }
+
+    private static void writeUuid(DataOutput out, UUID value) throws IOException {
+        out.writeLong(value.getMostSignificantBits());
+        out.writeLong(value.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInput in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    /**
+     * Writes a string as its UTF-8 byte length, or -1 for null, followed by the bytes.
+     * Unlike {@link DataOutput#writeUTF(String)} this has no 64 KB limit.
+     */
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDateTime(DataOutput out, LocalDateTime value) throws IOException {
+        writeString(out, value != null ? value.toString() : null);
+    }
+
+    private static LocalDateTime readDateTime(DataInput in) throws IOException {
+        String value = readString(in);
+        return value != null ? LocalDateTime.parse(value) : null;
+    }
+
+    private static void writeDate(DataOutput out, LocalDate value) throws IOException {
+        writeString(out, value != null ? value.toString() : null);
+    }
+
+    private static LocalDate readDate(DataInput in) throws IOException {
+        String value = readString(in);
+        return value != null ? LocalDate.parse(value) : null;
+    }
+
+    private static void writeMoney(DataOutput out, Money value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value.getAmount().toPlainString());
+            out.writeUTF(value.getCurrency().name());
+        }
+    }
+
+    private static Money readMoney(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return Money.of(new BigDecimal(in.readUTF()), Currency.valueOf(in.readUTF()));
+    }
+}
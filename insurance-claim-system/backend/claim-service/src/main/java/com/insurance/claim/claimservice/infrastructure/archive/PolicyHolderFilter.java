@@ -0,0 +1,99 @@
+package com.insurance.claim.claimservice.infrastructure.archive;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bloom filter over the policy holder ids of one archive segment, so a lookup for a holder the
+ * segment does not hold skips it without inflating any block. Sized at ten bits per distinct
+ * holder with seven probes, for a false positive rate of about one percent.
+ */
+final class PolicyHolderFilter {
+
+    private static final int BITS_PER_KEY = 10;
+    private static final int HASH_COUNT = 7;
+
+    private final long[] words;
+    private final int hashCount;
+
+    private PolicyHolderFilter(long[] words, int hashCount) {
+        this.words = words;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * @param keyHashes {@link #hash(String)} of every distinct key, in the first {@code count} slots
+     */
+    static PolicyHolderFilter of(long[] keyHashes, int count) {
+        long bits = Math.max(Long.SIZE, (long) count * BITS_PER_KEY);
+        PolicyHolderFilter filter = new PolicyHolderFilter(new long[(int) ((bits + Long.SIZE - 1) / Long.SIZE)],
+            HASH_COUNT);
+        for (int i = 0; i < count; i++) {
+            filter.add(keyHashes[i]);
+        }
+        return filter;
+    }
+
+    static PolicyHolderFilter read(DataInput in) throws IOException {
+        int hashCount = in.readInt();
+        long[] words = new long[in.readInt()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = in.readLong();
+        }
+        return new PolicyHolderFilter(words, hashCount);
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 mix so both halves are usable
+     */
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    boolean mightContain(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bit(hash, i);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void write(DataOutput out) throws IOException {
+        out.writeInt(hashCount);
+        out.writeInt(words.length);
+        for (long word : words) {
+            out.writeLong(word);
+        }
+    }
+
+    private void add(long hash) {
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bit(hash, i);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Double hashing: probe {@code i} is {@code h1 + i * h2} over the filter's bits
+     */
+    private long bit(long hash, int probe) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return Math.floorMod((long) h1 + (long) probe * h2, (long) words.length * Long.SIZE);
+    }
+}
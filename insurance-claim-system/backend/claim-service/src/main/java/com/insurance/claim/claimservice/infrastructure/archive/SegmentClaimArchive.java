@@ -0,0 +1,359 @@
+package com.insurance.claim.claimservice.infrastructure.archive;
+
+import com.insurance.claim.claimservice.domain.model.Claim;
+import com.insurance.claim.claimservice.domain.repository.ClaimArchive;
+import com.insurance.claim.claimservice.domain.valueobject.ClaimId;
+import com.insurance.claim.claimservice.domain.valueobject.ClaimStatus;
+import com.insurance.claim.claimservice.infrastructure.index.ClaimLocationIndex;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Claim archive made of immutable, compressed segment files partitioned by closing month.
+ * <p>
+ * Each {@link #archive(List)} call writes one new segment per month, skipping claims that are
+ * already archived. Once a month has more than {@code maxSegmentsPerPartition} segments its
+ * smallest segments are merged, so the number of segments a policy holder lookup has to consult
+ * stays bounded while large segments are only rewritten once the small ones have grown to match.
+ * Claim id and claim number lookups go through an off-heap {@link ClaimLocationIndex} that points
+ * at the segment and block holding the claim; policy holder lookups skip segments whose key range
+ * or Bloom filter rules the holder out and use the sparse block index of the rest.
+ */
+public class SegmentClaimArchive implements ClaimArchive, Closeable {
+
+    private static final int OFFSET_BITS = 40;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+
+    private static final Comparator<ArchiveSegment> NEWEST_FIRST = Comparator
+        .comparing(ArchiveSegment::getPartition)
+        .thenComparingInt(ArchiveSegment::getSequence)
+        .reversed();
+
+    private final Path directory;
+    private final int claimsPerBlock;
+    private final int maxSegmentsPerPartition;
+    private final ClaimLocationIndex locationIndex;
+    private final ConcurrentSkipListMap<Integer, ArchiveSegment> segments;
+    // Readers hold the read lock while using a segment; compaction takes the write lock to retire one
+    private final ReadWriteLock segmentLock = new ReentrantReadWriteLock();
+    // Merged segment being indexed; point lookups already find its claims here
+    private volatile ArchiveSegment compacting;
+    private int nextSequence;
+
+    private SegmentClaimArchive(Path directory, int claimsPerBlock, int maxSegmentsPerPartition,
+                                ClaimLocationIndex locationIndex,
+                                ConcurrentSkipListMap<Integer, ArchiveSegment> segments) {
+        this.directory = directory;
+        this.claimsPerBlock = claimsPerBlock;
+        this.maxSegmentsPerPartition = maxSegmentsPerPartition;
+        this.locationIndex = locationIndex;
+        this.segments = segments;
+        this.nextSequence = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+    }
+
+    /**
+     * Opens the archive under {@code directory}. The location index is shared with the rest of the
+     * service and stays owned by the caller; it is rebuilt from the segments if it lags behind them.
+     */
+    public static SegmentClaimArchive open(Path directory, int claimsPerBlock, int maxSegmentsPerPartition,
+                                           ClaimLocationIndex locationIndex) throws IOException {
+        if (maxSegmentsPerPartition < 1) {
+            throw new IllegalArgumentException("maxSegmentsPerPartition must be at least 1");
+        }
+        Files.createDirectories(directory);
+
+        ConcurrentSkipListMap<Integer, ArchiveSegment> segments = new ConcurrentSkipListMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                if (file.getFileName().toString().endsWith(".tmp")) {
+                    // Left behind by an interrupted archive run, never referenced by the index
+                    Files.delete(file);
+                } else if (ArchiveSegment.isSegmentFile(file)) {
+                    ArchiveSegment segment = ArchiveSegment.open(file);
+                    segments.put(segment.getSequence(), segment);
+                }
+            }
+        }
+
+        boolean compactionInterrupted = dropReplacedSegments(segments);
+        SegmentClaimArchive archive = new SegmentClaimArchive(directory, claimsPerBlock, maxSegmentsPerPartition,
+            locationIndex, segments);
+        archive.rebuildIndex(compactionInterrupted);
+        return archive;
+    }
+
+    @Override
+    public synchronized void archive(List<Claim> claims) {
+        Map<YearMonth, List<Claim>> byPartition = new TreeMap<>();
+        for (Claim claim : claims) {
+            if (claim.getStatus() != ClaimStatus.CLOSED) {
+                throw new IllegalArgumentException("Only CLOSED claims can be archived: " + claim.getClaimNumber());
+            }
+            if (isArchived(claim.getId())) {
+                // Archived by an earlier run that did not get to remove it from the hot store
+                continue;
+            }
+            LocalDateTime closedDate = claim.getClosedDate() != null ? claim.getClosedDate() : LocalDateTime.now();
+            byPartition.computeIfAbsent(YearMonth.from(closedDate), month -> new ArrayList<>()).add(claim);
+        }
+
+        try {
+            for (Map.Entry<YearMonth, List<Claim>> partition : byPartition.entrySet()) {
+                writeSegment(partition.getKey(), partition.getValue());
+            }
+            locationIndex.flush();
+
+            for (YearMonth partition : byPartition.keySet()) {
+                List<ArchiveSegment> partitionSegments = segmentsOf(partition);
+                if (partitionSegments.size() > maxSegmentsPerPartition) {
+                    compact(partition, partitionSegments);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write claim archive segment", e);
+        }
+    }
+
+    @Override
+    public Optional<Claim> findById(ClaimId claimId) {
+        return find(() -> locationIndex.findOffset(claimId).stream().toArray(),
+            claim -> claim.getId().equals(claimId));
+    }
+
+    @Override
+    public Optional<Claim> findByClaimNumber(String claimNumber) {
+        // Claim numbers can collide; the earliest archived claim with the number wins
+        return find(() -> locationIndex.findOffsetsByClaimNumber(claimNumber),
+            claim -> claimNumber.equals(claim.getClaimNumber()));
+    }
+
+    @Override
+    public List<Claim> findByPolicyHolderId(String policyHolderId) {
+        List<Claim> claims = new ArrayList<>();
+        segmentLock.readLock().lock();
+        try {
+            for (ArchiveSegment segment : segments.values()) {
+                if (segment.mayContain(policyHolderId)) {
+                    claims.addAll(segment.findByPolicyHolderId(policyHolderId));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read claim archive", e);
+        } finally {
+            segmentLock.readLock().unlock();
+        }
+        return claims;
+    }
+
+    @Override
+    public List<Claim> findAll() {
+        segmentLock.readLock().lock();
+        try {
+            List<ArchiveSegment> newestFirst = new ArrayList<>(segments.values());
+            newestFirst.sort(NEWEST_FIRST);
+            List<Claim> claims = new ArrayList<>(newestFirst.stream().mapToInt(ArchiveSegment::getRecordCount).sum());
+            for (ArchiveSegment segment : newestFirst) {
+                claims.addAll(segment.readAll());
+            }
+            return claims;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read claim archive", e);
+        } finally {
+            segmentLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        locationIndex.flush();
+        for (ArchiveSegment segment : segments.values()) {
+            segment.close();
+        }
+    }
+
+    int getSegmentCount() {
+        return segments.size();
+    }
+
+    private void writeSegment(YearMonth partition, List<Claim> claims) throws IOException {
+        int sequence = nextSequence++;
+        Map<Claim, Long> blockOffsets = new HashMap<>();
+        segments.put(sequence, ArchiveSegment.write(directory, sequence, partition, claims, claimsPerBlock,
+            List.of(), blockOffsets::put));
+        index(sequence, blockOffsets);
+    }
+
+    private void index(int sequence, Map<Claim, Long> blockOffsets) {
+        ObjLongConsumer<Claim> indexer = indexer(sequence);
+        blockOffsets.forEach(indexer::accept);
+    }
+
+    private ObjLongConsumer<Claim> indexer(int sequence) {
+        return (claim, blockOffset) ->
+            locationIndex.put(claim.getId(), claim.getClaimNumber(), location(sequence, blockOffset));
+    }
+
+    /**
+     * Merges the smallest segments of a month into one, streaming their already sorted claims
+     * through a k-way merge. The merged segment records the sequences it replaces, so if the
+     * process dies before the old files are deleted they are dropped on open.
+     */
+    private void compact(YearMonth partition, List<ArchiveSegment> partitionSegments) throws IOException {
+        List<ArchiveSegment> merging = selectForMerge(partitionSegments);
+        List<Integer> replaced = merging.stream().map(ArchiveSegment::getSequence).toList();
+
+        int sequence = nextSequence++;
+        ArchiveSegment merged = ArchiveSegment.write(directory, sequence, partition, ArchiveSegment.merge(merging),
+            claimsPerBlock, replaced, (claim, blockOffset) -> { });
+
+        // Re-point the index while both generations are readable; scans only see the old one
+        compacting = merged;
+        try {
+            merged.forEachLocated(indexer(sequence));
+            locationIndex.flush();
+
+            segmentLock.writeLock().lock();
+            try {
+                segments.put(sequence, merged);
+                for (ArchiveSegment segment : merging) {
+                    segments.remove(segment.getSequence());
+                    segment.close();
+                    Files.deleteIfExists(segment.getFile());
+                }
+            } finally {
+                segmentLock.writeLock().unlock();
+            }
+        } finally {
+            compacting = null;
+        }
+    }
+
+    /**
+     * Picks enough of the smallest segments to get back to the limit, then keeps adding the next
+     * smallest while it is no larger than everything picked so far. A large segment is therefore
+     * only rewritten once the small ones add up to its size, which keeps the number of times a
+     * claim is rewritten logarithmic in the size of its month.
+     */
+    private List<ArchiveSegment> selectForMerge(List<ArchiveSegment> partitionSegments) {
+        List<ArchiveSegment> bySize = new ArrayList<>(partitionSegments);
+        bySize.sort(Comparator.comparingInt(ArchiveSegment::getRecordCount));
+
+        int count = partitionSegments.size() - maxSegmentsPerPartition + 1;
+        long mergedRecords = 0;
+        for (int i = 0; i < count; i++) {
+            mergedRecords += bySize.get(i).getRecordCount();
+        }
+        while (count < bySize.size() && bySize.get(count).getRecordCount() <= mergedRecords) {
+            mergedRecords += bySize.get(count).getRecordCount();
+            count++;
+        }
+        return bySize.subList(0, count);
+    }
+
+    private List<ArchiveSegment> segmentsOf(YearMonth partition) {
+        return segments.values().stream()
+            .filter(segment -> segment.getPartition().equals(partition))
+            .toList();
+    }
+
+    private boolean isArchived(ClaimId claimId) {
+        OptionalLong location = locationIndex.findOffset(claimId);
+        return location.isPresent() && segments.containsKey((int) (location.getAsLong() >>> OFFSET_BITS));
+    }
+
+    /**
+     * Returns the first claim matching {@code filter} in the blocks the index points at
+     */
+    private Optional<Claim> find(Supplier<long[]> lookup, Predicate<Claim> filter) {
+        segmentLock.readLock().lock();
+        try {
+            for (long location : lookup.get()) {
+                ArchiveSegment segment = segment((int) (location >>> OFFSET_BITS));
+                if (segment == null) {
+                    continue;
+                }
+                Optional<Claim> claim = segment.findInBlock(location & OFFSET_MASK, filter);
+                if (claim.isPresent()) {
+                    return claim;
+                }
+            }
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read claim archive", e);
+        } finally {
+            segmentLock.readLock().unlock();
+        }
+    }
+
+    private ArchiveSegment segment(int sequence) {
+        ArchiveSegment segment = segments.get(sequence);
+        if (segment == null) {
+            ArchiveSegment merged = compacting;
+            if (merged != null && merged.getSequence() == sequence) {
+                return merged;
+            }
+        }
+        return segment;
+    }
+
+    /**
+     * Removes segments that a completed compaction superseded but did not get to delete
+     * @return true if any were found, in which case index entries may still point at them
+     */
+    private static boolean dropReplacedSegments(Map<Integer, ArchiveSegment> segments) throws IOException {
+        Set<Integer> replaced = new HashSet<>();
+        for (ArchiveSegment segment : segments.values()) {
+            replaced.addAll(segment.getReplacedSequences());
+        }
+
+        boolean dropped = false;
+        for (Integer sequence : replaced) {
+            ArchiveSegment segment = segments.remove(sequence);
+            if (segment != null) {
+                segment.close();
+                Files.deleteIfExists(segment.getFile());
+                dropped = true;
+            }
+        }
+        return dropped;
+    }
+
+    private void rebuildIndex(boolean force) throws IOException {
+        long archivedClaims = segments.values().stream().mapToLong(ArchiveSegment::getRecordCount).sum();
+        if (!force && locationIndex.size() >= archivedClaims) {
+            return;
+        }
+
+        for (ArchiveSegment segment : segments.values()) {
+            segment.forEachLocated(indexer(segment.getSequence()));
+        }
+        locationIndex.flush();
+    }
+
+    private static long location(int sequence, long blockOffset) {
+        return ((long) sequence << OFFSET_BITS) | blockOffset;
+    }
+}
@@ -0,0 +1,19 @@
+package com.insurance.claim.claimservice.infrastructure.index;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class ClaimIndexConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public ClaimLocationIndex claimLocationIndex(
+            @Value("${claim.index.directory:data/claim-archive/index}") Path directory,
+            @Value("${claim.index.expected-claims:1000000}") long expectedClaims) throws IOException {
+        return ClaimLocationIndex.open(directory, expectedClaims);
+    }
+}
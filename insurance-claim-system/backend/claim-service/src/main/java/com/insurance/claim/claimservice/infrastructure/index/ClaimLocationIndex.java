@@ -0,0 +1,124 @@
+package com.insurance.claim.claimservice.infrastructure.index;
+
+import com.insurance.claim.claimservice.domain.valueobject.ClaimId;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+/**
+ * Off-heap primary-key index mapping claim ids and claim numbers to a storage offset.
+ * Both maps are persisted under one directory and are served straight from the mapped
+ * files when the service restarts, so nothing has to be rebuilt from the database.
+ * <p>
+ * Claim numbers carry only five random digits per day, so they can collide. Each number
+ * therefore maps to one entry per claim, keyed by consecutive ordinals, and callers verify
+ * the claim found at each offset.
+ */
+public class ClaimLocationIndex implements Closeable {
+
+    private static final String BY_ID_FILE = "claim-id.idx";
+    private static final String BY_NUMBER_FILE = "claim-number.idx";
+
+    private final MappedHashIndex byId;
+    private final MappedHashIndex byClaimNumber;
+
+    private ClaimLocationIndex(MappedHashIndex byId, MappedHashIndex byClaimNumber) {
+        this.byId = byId;
+        this.byClaimNumber = byClaimNumber;
+    }
+
+    public static ClaimLocationIndex open(Path directory, long expectedClaims) throws IOException {
+        MappedHashIndex byId = MappedHashIndex.open(directory.resolve(BY_ID_FILE), expectedClaims);
+        try {
+            return new ClaimLocationIndex(byId,
+                    MappedHashIndex.open(directory.resolve(BY_NUMBER_FILE), expectedClaims));
+        } catch (IOException | RuntimeException e) {
+            byId.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Indexes a claim at {@code offset}, replacing its previous offset if it was indexed before
+     */
+    public void put(ClaimId claimId, String claimNumber, long offset) {
+        UUID id = claimId.getValue();
+        try {
+            long previous = byId.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            byId.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), offset);
+            OptionalLong encodedNumber = ClaimNumberCodec.encode(claimNumber);
+            if (encodedNumber.isPresent()) {
+                putClaimNumber(encodedNumber.getAsLong(), previous, offset);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to grow claim index", e);
+        }
+    }
+
+    public OptionalLong findOffset(ClaimId claimId) {
+        UUID id = claimId.getValue();
+        return toOptional(byId.get(id.getMostSignificantBits(), id.getLeastSignificantBits()));
+    }
+
+    /**
+     * @return The offsets of every claim indexed under the claim number, earliest first; empty if it is
+     *         unknown or not in the canonical format
+     */
+    public long[] findOffsetsByClaimNumber(String claimNumber) {
+        OptionalLong encodedNumber = ClaimNumberCodec.encode(claimNumber);
+        if (encodedNumber.isEmpty()) {
+            return new long[0];
+        }
+
+        LongStream.Builder offsets = LongStream.builder();
+        for (long ordinal = 0; ; ordinal++) {
+            long offset = byClaimNumber.get(encodedNumber.getAsLong(), ordinal);
+            if (offset == MappedHashIndex.NOT_FOUND) {
+                return offsets.build().toArray();
+            }
+            offsets.add(offset);
+        }
+    }
+
+    public long size() {
+        return byId.size();
+    }
+
+    public void flush() {
+        byId.flush();
+        byClaimNumber.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            byId.close();
+        } finally {
+            byClaimNumber.close();
+        }
+    }
+
+    /**
+     * Updates the claim's entry under its number, or appends one after any colliding claims.
+     * An already indexed claim is recognised by its previous offset, which its number entry
+     * always shares with its id entry.
+     */
+    private void putClaimNumber(long encodedNumber, long previous, long offset) throws IOException {
+        long ordinal = 0;
+        for (long existing = byClaimNumber.get(encodedNumber, ordinal);
+             existing != MappedHashIndex.NOT_FOUND && existing != previous;
+             existing = byClaimNumber.get(encodedNumber, ordinal)) {
+            ordinal++;
+        }
+        byClaimNumber.put(encodedNumber, ordinal, offset);
+    }
+
+    private static OptionalLong toOptional(long offset) {
+        return offset == MappedHashIndex.NOT_FOUND ? OptionalLong.empty() : OptionalLong.of(offset);
+    }
+}
@@ -0,0 +1,41 @@
+package com.insurance.claim.claimservice.infrastructure.index;
+
+import java.util.OptionalLong;
+
+/**
+ * Packs claim numbers of the form {@code CLM-YYYYMMDD-NNNNN} into a single long
+ * ({@code YYYYMMDDNNNNN}) so they can be used as fixed-width index keys.
+ */
+final class ClaimNumberCodec {
+
+    private static final String PREFIX = "CLM-";
+    private static final int LENGTH = 18;
+    private static final int DATE_START = 4;
+    private static final int DATE_END = 12;
+
+    private ClaimNumberCodec() {
+    }
+
+    /**
+     * @return The encoded claim number, or empty if it is not in the canonical format
+     */
+    static OptionalLong encode(String claimNumber) {
+        if (claimNumber == null || claimNumber.length() != LENGTH
+                || !claimNumber.startsWith(PREFIX) || claimNumber.charAt(DATE_END) != '-') {
+            return OptionalLong.empty();
+        }
+
+        long encoded = 0;
+        for (int i = DATE_START; i < LENGTH; i++) {
+            if (i == DATE_END) {
+                continue;
+            }
+            char c = claimNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return OptionalLong.empty();
+            }
+            encoded = encoded * 10 + (c - '0');
+        }
+        return OptionalLong.of(encoded);
+    }
+}
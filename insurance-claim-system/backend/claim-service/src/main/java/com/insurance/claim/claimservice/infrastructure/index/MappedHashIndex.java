@@ -0,0 +1,311 @@
+package com.insurance.claim.claimservice.infrastructure.index;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Persistent open-addressing hash index from a 128-bit key (two longs) to a non-negative long value.
+ * <p>
+ * Slots live in a memory-mapped file rather than on the heap, so an index of tens of millions of
+ * entries costs no GC work and is usable as soon as the file is mapped after a restart.
+ * Collisions are resolved with linear probing and deletions use backward-shift, so no tombstones
+ * accumulate. The table doubles into a new file once it is three quarters full.
+ * <p>
+ * File layout: a {@value #HEADER_SIZE} byte header (magic, version, capacity, size) followed by
+ * {@code capacity} slots of {@value #SLOT_SIZE} bytes holding {@code keyHigh, keyLow, value + 1};
+ * a zero value field marks an empty slot.
+ */
+public final class MappedHashIndex implements Closeable {
+
+    public static final long NOT_FOUND = -1L;
+
+    private static final long MAGIC = 0x434C4D494458L; // "CLMIDX"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 24;
+    private static final int SLOTS_PER_CHUNK_BITS = 25;
+    private static final long SLOTS_PER_CHUNK = 1L << SLOTS_PER_CHUNK_BITS;
+    private static final long MIN_CAPACITY = 1024;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 8;
+    private static final int CAPACITY_OFFSET = 16;
+    private static final int SIZE_OFFSET = 24;
+
+    private final Path file;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private FileChannel channel;
+    private MappedByteBuffer header;
+    private MappedByteBuffer[] chunks;
+    private long capacity;
+    private long size;
+
+    private MappedHashIndex(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Opens the index stored in {@code file}, creating it sized for {@code expectedEntries} if it does not exist
+     */
+    public static MappedHashIndex open(Path file, long expectedEntries) throws IOException {
+        MappedHashIndex index = new MappedHashIndex(file);
+        if (Files.exists(file) && Files.size(file) > 0) {
+            index.map();
+        } else {
+            index.create(file, capacityFor(expectedEntries));
+            index.map();
+        }
+        return index;
+    }
+
+    /**
+     * @return The value stored for the key, or {@link #NOT_FOUND}
+     */
+    public long get(long keyHigh, long keyLow) {
+        lock.readLock().lock();
+        try {
+            long slot = findSlot(keyHigh, keyLow);
+            return slot < 0 ? NOT_FOUND : readValue(slot) - 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(long keyHigh, long keyLow, long value) throws IOException {
+        if (value < 0) {
+            throw new IllegalArgumentException("Index values must be non-negative: " + value);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (size + 1 > (long) (capacity * MAX_LOAD_FACTOR)) {
+                resize(capacity * 2);
+            }
+            insert(keyHigh, keyLow, value);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return true if the key was present
+     */
+    public boolean remove(long keyHigh, long keyLow) {
+        lock.writeLock().lock();
+        try {
+            long slot = findSlot(keyHigh, keyLow);
+            if (slot < 0) {
+                return false;
+            }
+            shiftBackFrom(slot);
+            setSize(size - 1);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Forces mapped changes to disk
+     */
+    public void flush() {
+        lock.writeLock().lock();
+        try {
+            for (MappedByteBuffer chunk : chunks) {
+                chunk.force();
+            }
+            header.force();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (channel != null) {
+                flush();
+                channel.close();
+                channel = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long findSlot(long keyHigh, long keyLow) {
+        long mask = capacity - 1;
+        long slot = hash(keyHigh, keyLow) & mask;
+        while (readValue(slot) != 0) {
+            if (readKeyHigh(slot) == keyHigh && readKeyLow(slot) == keyLow) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insert(long keyHigh, long keyLow, long value) {
+        long mask = capacity - 1;
+        long slot = hash(keyHigh, keyLow) & mask;
+        while (readValue(slot) != 0) {
+            if (readKeyHigh(slot) == keyHigh && readKeyLow(slot) == keyLow) {
+                writeValue(slot, value + 1);
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        writeSlot(slot, keyHigh, keyLow, value + 1);
+        setSize(size + 1);
+    }
+
+    private void shiftBackFrom(long emptied) {
+        long mask = capacity - 1;
+        long hole = emptied;
+        long slot = (hole + 1) & mask;
+        while (readValue(slot) != 0) {
+            long home = hash(readKeyHigh(slot), readKeyLow(slot)) & mask;
+            // Move the entry into the hole unless its home lies cyclically in (hole, slot]
+            boolean homeBetween = hole <= slot
+                    ? home > hole && home <= slot
+                    : home > hole || home <= slot;
+            if (!homeBetween) {
+                writeSlot(hole, readKeyHigh(slot), readKeyLow(slot), readValue(slot));
+                hole = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        writeSlot(hole, 0, 0, 0);
+    }
+
+    private void resize(long newCapacity) throws IOException {
+        Path resized = file.resolveSibling(file.getFileName() + ".resize");
+        Files.deleteIfExists(resized);
+
+        MappedHashIndex target = new MappedHashIndex(resized);
+        target.create(resized, newCapacity);
+        target.map();
+        for (long slot = 0; slot < capacity; slot++) {
+            long value = readValue(slot);
+            if (value != 0) {
+                target.insert(readKeyHigh(slot), readKeyLow(slot), value - 1);
+            }
+        }
+        target.close();
+
+        channel.close();
+        Files.move(resized, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        map();
+    }
+
+    private void create(Path target, long slots) throws IOException {
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        try (FileChannel created = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer newHeader = created.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            newHeader.putLong(MAGIC_OFFSET, MAGIC);
+            newHeader.putInt(VERSION_OFFSET, VERSION);
+            newHeader.putLong(CAPACITY_OFFSET, slots);
+            newHeader.putLong(SIZE_OFFSET, 0);
+            newHeader.force();
+            // Extend the file to its full length; the slot region stays sparse until written
+            created.write(ByteBuffer.wrap(new byte[1]), HEADER_SIZE + slots * SLOT_SIZE - 1);
+        }
+    }
+
+    private void map() throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        if (header.getLong(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION) {
+            channel.close();
+            throw new IllegalStateException("Not a claim index file: " + file);
+        }
+        capacity = header.getLong(CAPACITY_OFFSET);
+        size = header.getLong(SIZE_OFFSET);
+
+        int chunkCount = (int) ((capacity + SLOTS_PER_CHUNK - 1) >>> SLOTS_PER_CHUNK_BITS);
+        chunks = new MappedByteBuffer[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            long firstSlot = (long) i << SLOTS_PER_CHUNK_BITS;
+            long slots = Math.min(SLOTS_PER_CHUNK, capacity - firstSlot);
+            chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE,
+                    HEADER_SIZE + firstSlot * SLOT_SIZE, slots * SLOT_SIZE);
+        }
+    }
+
+    private void setSize(long newSize) {
+        size = newSize;
+        header.putLong(SIZE_OFFSET, newSize);
+    }
+
+    private long readKeyHigh(long slot) {
+        return chunk(slot).getLong(offset(slot));
+    }
+
+    private long readKeyLow(long slot) {
+        return chunk(slot).getLong(offset(slot) + 8);
+    }
+
+    private long readValue(long slot) {
+        return chunk(slot).getLong(offset(slot) + 16);
+    }
+
+    private void writeValue(long slot, long storedValue) {
+        chunk(slot).putLong(offset(slot) + 16, storedValue);
+    }
+
+    private void writeSlot(long slot, long keyHigh, long keyLow, long storedValue) {
+        MappedByteBuffer chunk = chunk(slot);
+        int offset = offset(slot);
+        chunk.putLong(offset, keyHigh);
+        chunk.putLong(offset + 8, keyLow);
+        chunk.putLong(offset + 16, storedValue);
+    }
+
+    private MappedByteBuffer chunk(long slot) {
+        return chunks[(int) (slot >>> SLOTS_PER_CHUNK_BITS)];
+    }
+
+    private static int offset(long slot) {
+        return (int) (slot & (SLOTS_PER_CHUNK - 1)) * SLOT_SIZE;
+    }
+
+    private static long capacityFor(long expectedEntries) {
+        long required = (long) Math.ceil(expectedEntries / MAX_LOAD_FACTOR) + 1;
+        return Math.max(MIN_CAPACITY, Long.highestOneBit(required - 1) << 1);
+    }
+
+    static long hash(long keyHigh, long keyLow) {
+        long h = keyHigh ^ Long.rotateLeft(keyLow, 32);
+        // MurmurHash3 fmix64 finalizer
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
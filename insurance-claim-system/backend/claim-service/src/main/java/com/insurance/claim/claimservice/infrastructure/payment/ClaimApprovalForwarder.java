@@ -0,0 +1,69 @@
+package com.insurance.claim.claimservice.infrastructure.payment;
+
+import com.insurance.claim.claimservice.application.dto.ClaimApprovalDto;
+import com.insurance.claim.claimservice.application.service.ClaimApplicationService;
+import com.insurance.claim.claimservice.domain.model.Claim;
+import com.insurance.claim.claimservice.domain.valueobject.ClaimStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import java.util.List;
+
+/**
+ * Hands approved claims to the payment service in batches, off the request path. Approving a claim
+ * only records it as APPROVED; this sweep submits APPROVED claims in chunks and moves each submitted
+ * chunk to PAYMENT_PENDING. A chunk that fails stays APPROVED and is sent again on the next sweep;
+ * the payment service deduplicates approvals by claim id, so redelivery is harmless.
+ * <p>
+ * Claims already in PAYMENT_PENDING are not resent: the payment service journals approvals before
+ * acknowledging them, so a submitted claim stays with it until it is paid and confirmed.
+ */
+@Slf4j
+@Component
+public class ClaimApprovalForwarder {
+
+    private final PaymentServiceClient paymentServiceClient;
+    private final ClaimApplicationService claimApplicationService;
+    private final int batchSize;
+
+    public ClaimApprovalForwarder(PaymentServiceClient paymentServiceClient,
+                                  ClaimApplicationService claimApplicationService,
+                                  @Value("${payment.handoff.batch-size:500}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("payment.handoff.batch-size must be at least 1");
+        }
+        this.paymentServiceClient = paymentServiceClient;
+        this.claimApplicationService = claimApplicationService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${payment.handoff.interval:PT30S}")
+    public void forwardApprovedClaims() {
+        List<Claim> approvedClaims = claimApplicationService.loadClaims(ClaimStatus.APPROVED);
+
+        for (int from = 0; from < approvedClaims.size(); from += batchSize) {
+            List<Claim> batch = approvedClaims.subList(from, Math.min(from + batchSize, approvedClaims.size()));
+            try {
+                paymentServiceClient.submitApprovals(batch.stream().map(ClaimApprovalForwarder::toApproval).toList());
+            } catch (RestClientException e) {
+                log.warn("Could not hand {} approved claims to the payment service, retrying next sweep",
+                        approvedClaims.size() - from, e);
+                return;
+            }
+            claimApplicationService.markPaymentPending(batch.stream().map(claim -> claim.getId().getValue()).toList());
+        }
+    }
+
+    private static ClaimApprovalDto toApproval(Claim claim) {
+        return ClaimApprovalDto.builder()
+                .claimId(claim.getId().getValue())
+                .claimNumber(claim.getClaimNumber())
+                .payeeId(claim.getPolicyHolderId())
+                .amount(claim.getClaimAmount().getAmount())
+                .currency(claim.getClaimAmount().getCurrency().name())
+                .build();
+    }
+}
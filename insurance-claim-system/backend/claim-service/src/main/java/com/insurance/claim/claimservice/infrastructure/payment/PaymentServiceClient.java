@@ -0,0 +1,46 @@
+package com.insurance.claim.claimservice.infrastructure.payment;
+
+import com.insurance.claim.claimservice.application.dto.ClaimApprovalDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.ClientHttpRequestFactories;
+import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * HTTP adapter for handing approved claims to the payment service
+ */
+@Component
+public class PaymentServiceClient {
+
+    private final RestClient restClient;
+
+    /**
+     * The timeouts bound how long a handoff sweep can be held up by a slow or unreachable payment service
+     */
+    public PaymentServiceClient(RestClient.Builder restClientBuilder,
+                                @Value("${payment-service.url:http://payment-service}") String baseUrl,
+                                @Value("${payment-service.connect-timeout:PT2S}") Duration connectTimeout,
+                                @Value("${payment-service.read-timeout:PT10S}") Duration readTimeout) {
+        ClientHttpRequestFactorySettings settings = ClientHttpRequestFactorySettings.DEFAULTS
+                .withConnectTimeout(connectTimeout)
+                .withReadTimeout(readTimeout);
+        this.restClient = restClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .requestFactory(ClientHttpRequestFactories.get(settings))
+                .build();
+    }
+
+    public void submitApprovals(List<ClaimApprovalDto> approvals) {
+        restClient.post()
+                .uri("/payments/approvals")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(approvals)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -0,0 +1,96 @@
+package com.insurance.claim.claimservice.infrastructure.persistence;
+
+import com.insurance.claim.claimservice.domain.model.Claim;
+import com.insurance.claim.claimservice.domain.repository.ClaimArchive;
+import com.insurance.claim.claimservice.domain.repository.ClaimRepository;
+import com.insurance.claim.claimservice.domain.valueobject.ClaimId;
+import com.insurance.claim.claimservice.domain.valueobject.ClaimStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Routes claim lookups to the hot store first and then to the archive of CLOSED claims.
+ * Writes always go to the hot store; the archive is only filled by the archival job.
+ * Listings of CLOSED claims and of all claims include every archived claim.
+ */
+@Primary
+@Repository
+public class TieredClaimRepository implements ClaimRepository {
+
+    public static final String HOT_STORE = "hotClaimRepository";
+
+    private final ClaimRepository hotStore;
+    private final ClaimArchive archive;
+
+    public TieredClaimRepository(@Qualifier(HOT_STORE) ClaimRepository hotStore, ClaimArchive archive) {
+        this.hotStore = hotStore;
+        this.archive = archive;
+    }
+
+    @Override
+    public Claim save(Claim claim) {
+        return hotStore.save(claim);
+    }
+
+    @Override
+    public Optional<Claim> findById(ClaimId claimId) {
+        return hotStore.findById(claimId).or(() -> archive.findById(claimId));
+    }
+
+    @Override
+    public Optional<Claim> findByClaimNumber(String claimNumber) {
+        return hotStore.findByClaimNumber(claimNumber).or(() -> archive.findByClaimNumber(claimNumber));
+    }
+
+    @Override
+    public List<Claim> findByPolicyHolderId(String policyHolderId) {
+        return concat(hotStore.findByPolicyHolderId(policyHolderId), archive.findByPolicyHolderId(policyHolderId));
+    }
+
+    @Override
+    public List<Claim> findByStatus(ClaimStatus status) {
+        if (status != ClaimStatus.CLOSED) {
+            return hotStore.findByStatus(status);
+        }
+        return concat(hotStore.findByStatus(status), archive.findAll());
+    }
+
+    @Override
+    public List<Claim> findAll() {
+        return concat(hotStore.findAll(), archive.findAll());
+    }
+
+    @Override
+    public void deleteById(ClaimId claimId) {
+        hotStore.deleteById(claimId);
+    }
+
+    /**
+     * Appends the archived claims that are not also in the hot store. A claim is in both
+     * tiers between being archived and being deleted from the hot store, or for good if
+     * that delete failed; the hot copy wins.
+     */
+    private static List<Claim> concat(List<Claim> hot, List<Claim> archived) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        Set<ClaimId> hotIds = new HashSet<>(hot.size());
+        hot.forEach(claim -> hotIds.add(claim.getId()));
+
+        List<Claim> claims = new ArrayList<>(hot.size() + archived.size());
+        claims.addAll(hot);
+        for (Claim claim : archived) {
+            if (!hotIds.contains(claim.getId())) {
+                claims.add(claim);
+            }
+        }
+        return claims;
+    }
+}
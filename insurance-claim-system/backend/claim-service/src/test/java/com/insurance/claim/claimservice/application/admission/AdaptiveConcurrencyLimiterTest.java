@@ -0,0 +1,87 @@
+package com.insurance.claim.claimservice.application.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void eachPriorityIsLimitedToItsShare() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 10, 10);
+
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            permits.add(limiter.acquire(RequestPriority.BULK_IMPORT));
+        }
+        assertThrows(ServiceOverloadedException.class, () -> limiter.acquire(RequestPriority.BULK_IMPORT));
+        assertEquals(1, limiter.getRejected(RequestPriority.BULK_IMPORT));
+
+        // Higher priorities still have headroom above the bulk share
+        permits.add(limiter.acquire(RequestPriority.POLICYHOLDER));
+        permits.add(limiter.acquire(RequestPriority.ADJUSTER));
+        assertEquals(7, limiter.getInflight());
+
+        permits.forEach(limiter::release);
+        assertEquals(0, limiter.getInflight());
+    }
+
+    @Test
+    void shedsAfterTheMaximumWait() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1);
+        AdaptiveConcurrencyLimiter.Permit held = limiter.acquire(RequestPriority.ADJUSTER);
+
+        long start = System.nanoTime();
+        ServiceOverloadedException shed = assertThrows(ServiceOverloadedException.class,
+                () -> limiter.acquire(RequestPriority.BULK_IMPORT));
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(waitedMillis >= RequestPriority.BULK_IMPORT.getMaxWait().toMillis(),
+                "Shed after " + waitedMillis + "ms");
+        assertTrue(shed.getRetryAfter().compareTo(Duration.ofSeconds(1)) >= 0);
+        assertEquals(0, limiter.getQueued(RequestPriority.BULK_IMPORT));
+
+        limiter.release(held);
+        limiter.release(limiter.acquire(RequestPriority.BULK_IMPORT));
+    }
+
+    @Test
+    void queuedHigherPriorityIsAdmittedFirst() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1);
+        AdaptiveConcurrencyLimiter.Permit held = limiter.acquire(RequestPriority.ADJUSTER);
+
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> policyholder =
+                CompletableFuture.supplyAsync(() -> limiter.acquire(RequestPriority.POLICYHOLDER));
+        awaitQueued(limiter, RequestPriority.POLICYHOLDER);
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> adjuster =
+                CompletableFuture.supplyAsync(() -> limiter.acquire(RequestPriority.ADJUSTER));
+        awaitQueued(limiter, RequestPriority.ADJUSTER);
+
+        limiter.release(held);
+
+        // The adjuster overtakes the policyholder that queued earlier and keeps the only slot
+        AdaptiveConcurrencyLimiter.Permit admitted = adjuster.get(1, TimeUnit.SECONDS);
+        Exception shed = assertThrows(Exception.class, () -> policyholder.get(2, TimeUnit.SECONDS));
+        assertTrue(shed.getCause() instanceof ServiceOverloadedException, shed.toString());
+
+        limiter.release(admitted);
+        assertEquals(0, limiter.getInflight());
+    }
+
+    private static void awaitQueued(AdaptiveConcurrencyLimiter limiter, RequestPriority priority)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (limiter.getQueued(priority) == 0) {
+            assertTrue(System.nanoTime() < deadline, priority + " never queued");
+            Thread.sleep(1);
+        }
+    }
+}
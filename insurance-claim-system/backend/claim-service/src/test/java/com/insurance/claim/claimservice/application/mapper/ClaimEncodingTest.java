@@ -0,0 +1,39 @@
+package com.insurance.claim.claimservice.application.mapper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClaimEncodingTest {
+
+    @Test
+    void fallsBackToJsonWithoutAnAcceptHeader() {
+        assertEquals(ClaimEncoding.JSON, ClaimEncoding.negotiate(null));
+        assertEquals(ClaimEncoding.JSON, ClaimEncoding.negotiate(" "));
+        assertEquals(ClaimEncoding.JSON, ClaimEncoding.negotiate("*/*"));
+    }
+
+    @Test
+    void specificTypeOutranksWildcardOfTheSameQuality() {
+        assertEquals(ClaimEncoding.CBOR, ClaimEncoding.negotiate("*/*, application/cbor"));
+        assertEquals(ClaimEncoding.SMILE, ClaimEncoding.negotiate("application/*, application/x-jackson-smile"));
+    }
+
+    @Test
+    void higherQualityOutranksSpecificity() {
+        assertEquals(ClaimEncoding.JSON, ClaimEncoding.negotiate("application/cbor;q=0.5, */*"));
+        assertEquals(ClaimEncoding.SMILE,
+            ClaimEncoding.negotiate("application/json;q=0.2, application/x-jackson-smile;q=0.9"));
+    }
+
+    @Test
+    void skipsTypesWithZeroQuality() {
+        assertEquals(ClaimEncoding.CBOR, ClaimEncoding.negotiate("application/json;q=0, application/cbor;q=0.1"));
+    }
+
+    @Test
+    void rejectsUnsupportedTypes() {
+        assertThrows(IllegalArgumentException.class, () -> ClaimEncoding.negotiate("text/html"));
+    }
+}
@@ -0,0 +1,128 @@
+package com.insurance.claim.claimservice.application.mapper;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.insurance.claim.claimservice.domain.model.Claim;
+import com.insurance.claim.claimservice.domain.model.Document;
+import com.insurance.claim.claimservice.domain.valueobject.ClaimId;
+import com.insurance.claim.claimservice.domain.valueobject.ClaimStatus;
+import com.insurance.claim.claimservice.domain.valueobject.DocumentId;
+import com.insurance.claim.claimservice.domain.valueobject.DocumentType;
+import com.insurance.claim.claimservice.domain.valueobject.PolicyDetails;
+import com.insurance.claim.common.domain.valueobjects.Currency;
+import com.insurance.claim.common.domain.valueobjects.Money;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ClaimStreamWriterTest {
+
+    // Same date handling as the Spring Boot configured ObjectMapper
+    private static final ObjectMapper JSON_MAPPER = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+        .build();
+
+    private final ClaimStreamWriter writer = new ClaimStreamWriter();
+    private final ClaimMapper mapper = new ClaimMapper();
+
+    @Test
+    void jsonMatchesTheSerializedResponseDtos() throws IOException {
+        List<Claim> claims = claims();
+
+        JsonNode expected = JSON_MAPPER.readTree(JSON_MAPPER.writeValueAsString(mapper.toClaimResponseDtoList(claims)));
+        JsonNode actual = JSON_MAPPER.readTree(write(claims, EnumSet.allOf(ClaimField.class), ClaimEncoding.JSON));
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void writesOnlyTheSelectedFields() throws IOException {
+        List<Claim> claims = claims();
+        Set<ClaimField> fields = ClaimField.parse("id, status,documents");
+
+        JsonNode actual = JSON_MAPPER.readTree(write(claims, fields, ClaimEncoding.JSON));
+
+        assertEquals(claims.size(), actual.size());
+        for (int i = 0; i < claims.size(); i++) {
+            JsonNode claim = actual.get(i);
+            Set<String> names = new HashSet<>();
+            claim.fieldNames().forEachRemaining(names::add);
+            assertEquals(Set.of("id", "status", "documents"), names);
+            assertEquals(claims.get(i).getId().getValue().toString(), claim.get("id").asText());
+            assertEquals(claims.get(i).getStatus().name(), claim.get("status").asText());
+            assertEquals(claims.get(i).getDocuments().size(), claim.get("documents").size());
+        }
+    }
+
+    @Test
+    void cborRoundTripsToTheSameTree() throws IOException {
+        List<Claim> claims = claims();
+
+        JsonNode expected = JSON_MAPPER.readTree(JSON_MAPPER.writeValueAsString(mapper.toClaimResponseDtoList(claims)));
+        JsonNode actual = new CBORMapper().readTree(write(claims, EnumSet.allOf(ClaimField.class), ClaimEncoding.CBOR));
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void smileRoundTripsToTheSameTree() throws IOException {
+        List<Claim> claims = claims();
+
+        JsonNode expected = JSON_MAPPER.readTree(JSON_MAPPER.writeValueAsString(mapper.toClaimResponseDtoList(claims)));
+        JsonNode actual = new SmileMapper().readTree(write(claims, EnumSet.allOf(ClaimField.class), ClaimEncoding.SMILE));
+
+        assertEquals(expected, actual);
+    }
+
+    private byte[] write(List<Claim> claims, Set<ClaimField> fields, ClaimEncoding encoding) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeClaims(claims, fields, encoding, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * A freshly submitted claim with nulls in the optional fields and a rejected one with documents
+     */
+    private static List<Claim> claims() {
+        PolicyDetails policyDetails = new PolicyDetails("POL-1001", "HOME",
+            LocalDate.of(2024, 1, 1), LocalDate.of(2026, 12, 31),
+            Money.of(new BigDecimal("50000.00"), Currency.EUR), Money.of(new BigDecimal("250.00"), Currency.EUR));
+
+        Claim submitted = Claim.reconstitute(new ClaimId(UUID.randomUUID()), "CLM-20250301-00001", "holder-a",
+            LocalDateTime.of(2025, 2, 27, 22, 15), "Water damage in kitchen", policyDetails,
+            Money.of(new BigDecimal("1200.50"), Currency.EUR), ClaimStatus.SUBMITTED, List.of(), null,
+            LocalDateTime.of(2025, 3, 1, 8, 0, 12, 345_000_000), null, null, null, null);
+
+        List<Document> documents = List.of(
+            new Document(new DocumentId(UUID.randomUUID()), "invoice.pdf", "application/pdf",
+                "s3://claims/invoice.pdf", DocumentType.INVOICE, "adjuster-7", LocalDateTime.of(2025, 2, 3, 10, 15)),
+            new Document(new DocumentId(UUID.randomUUID()), "photo.jpg", "image/jpeg",
+                "s3://claims/photo.jpg", DocumentType.PHOTO_EVIDENCE, "holder-b", LocalDateTime.of(2025, 2, 3, 10, 16, 30)));
+        Claim rejected = Claim.reconstitute(new ClaimId(UUID.randomUUID()), "CLM-20250302-00002", "holder-b",
+            LocalDateTime.of(2025, 2, 1, 13, 45), "Hail damage to roof \u00FCber the garage", policyDetails,
+            Money.of(new BigDecimal("80000.00"), Currency.EUR), ClaimStatus.REJECTED, documents,
+            "Claim amount exceeds coverage", LocalDateTime.of(2025, 3, 2, 9, 30),
+            LocalDateTime.of(2025, 3, 3, 11, 0), null, null, null);
+
+        return List.of(submitted, rejected);
+    }
+}
@@ -0,0 +1,172 @@
+package com.insurance.claim.claimservice.application.service;
+
+import com.insurance.claim.claimservice.application.dto.PaymentConfirmationDto;
+import com.insurance.claim.claimservice.application.mapper.ClaimMapper;
+import com.insurance.claim.claimservice.domain.event.ClaimPaidEvent;
+import com.insurance.claim.claimservice.domain.model.Claim;
+import com.insurance.claim.claimservice.domain.repository.ClaimRepository;
+import com.insurance.claim.claimservice.domain.valueobject.ClaimId;
+import com.insurance.claim.claimservice.domain.valueobject.ClaimStatus;
+import com.insurance.claim.claimservice.domain.valueobject.PolicyDetails;
+import com.insurance.claim.common.domain.valueobjects.Currency;
+import com.insurance.claim.common.domain.valueobjects.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClaimApplicationServiceTest {
+
+    private final InMemoryClaimRepository claimRepository = new InMemoryClaimRepository();
+    private final RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+    private final List<Object> publishedEvents = new ArrayList<>();
+    private final ClaimApplicationService service = new ClaimApplicationService(claimRepository, null,
+        new ClaimMapper(), publishedEvents::add, new TransactionTemplate(transactionManager));
+
+    @Test
+    void skipsConfirmationsThatCanNeverApplyAndPaysTheRest() {
+        Claim pending = claimRepository.save(claim(ClaimStatus.PAYMENT_PENDING, null));
+        Claim alreadyPaid = claimRepository.save(claim(ClaimStatus.PAID, "PAY-1"));
+        Claim rejected = claimRepository.save(claim(ClaimStatus.REJECTED, null));
+
+        service.confirmPayments(List.of(
+            confirmation(UUID.randomUUID(), "PAY-2"),
+            confirmation(pending.getId().getValue(), null),
+            confirmation(rejected.getId().getValue(), "PAY-3"),
+            confirmation(alreadyPaid.getId().getValue(), "PAY-4"),
+            confirmation(pending.getId().getValue(), "PAY-5")));
+
+        assertEquals(ClaimStatus.PAID, pending.getStatus());
+        assertEquals("PAY-5", pending.getPaymentReference());
+        assertEquals("PAY-1", alreadyPaid.getPaymentReference());
+        assertEquals(ClaimStatus.REJECTED, rejected.getStatus());
+        assertEquals(1, publishedEvents.size());
+        assertEquals(ClaimPaidEvent.class, publishedEvents.get(0).getClass());
+        // Every confirmation ran in its own transaction and only the skipped ones rolled back
+        assertEquals(2, transactionManager.commits);
+        assertEquals(3, transactionManager.rollbacks);
+    }
+
+    @Test
+    void appliesTheRemainingConfirmationsBeforeRethrowingARetryableFailure() {
+        Claim failing = claimRepository.save(claim(ClaimStatus.PAYMENT_PENDING, null));
+        Claim pending = claimRepository.save(claim(ClaimStatus.PAYMENT_PENDING, null));
+        RuntimeException outage = new RuntimeException("Database unavailable");
+        claimRepository.failSavesOf(failing.getId(), outage);
+
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> service.confirmPayments(List.of(
+            confirmation(failing.getId().getValue(), "PAY-1"),
+            confirmation(pending.getId().getValue(), "PAY-2"))));
+
+        assertSame(outage, thrown);
+        assertEquals(ClaimStatus.PAID, pending.getStatus());
+        assertEquals(1, transactionManager.commits);
+        assertEquals(1, transactionManager.rollbacks);
+    }
+
+    private static PaymentConfirmationDto confirmation(UUID claimId, String paymentReference) {
+        return PaymentConfirmationDto.builder()
+            .claimId(claimId)
+            .paymentReference(paymentReference)
+            .build();
+    }
+
+    private static Claim claim(ClaimStatus status, String paymentReference) {
+        PolicyDetails policyDetails = new PolicyDetails("POL-1001", "HOME",
+            LocalDate.of(2024, 1, 1), LocalDate.of(2026, 12, 31),
+            Money.of(new BigDecimal("50000.00"), Currency.EUR), Money.of(new BigDecimal("250.00"), Currency.EUR));
+        LocalDateTime submitted = LocalDateTime.of(2025, 3, 1, 8, 0);
+
+        return Claim.reconstitute(new ClaimId(UUID.randomUUID()), "CLM-20250301-00001", "holder-a",
+            submitted.minusDays(2), "Water damage in kitchen", policyDetails,
+            Money.of(new BigDecimal("1200.50"), Currency.EUR), status, List.of(), null, submitted,
+            submitted.plusDays(1), paymentReference, paymentReference != null ? submitted.plusDays(3) : null, null);
+    }
+
+    private static class InMemoryClaimRepository implements ClaimRepository {
+        private final Map<ClaimId, Claim> claims = new ConcurrentHashMap<>();
+        private final Map<ClaimId, RuntimeException> failingSaves = new ConcurrentHashMap<>();
+
+        void failSavesOf(ClaimId claimId, RuntimeException failure) {
+            failingSaves.put(claimId, failure);
+        }
+
+        @Override
+        public Claim save(Claim claim) {
+            RuntimeException failure = failingSaves.get(claim.getId());
+            if (failure != null) {
+                throw failure;
+            }
+            claims.put(claim.getId(), claim);
+            return claim;
+        }
+
+        @Override
+        public Optional<Claim> findById(ClaimId claimId) {
+            return Optional.ofNullable(claims.get(claimId));
+        }
+
+        @Override
+        public Optional<Claim> findByClaimNumber(String claimNumber) {
+            return claims.values().stream().filter(claim -> claim.getClaimNumber().equals(claimNumber)).findFirst();
+        }
+
+        @Override
+        public List<Claim> findByPolicyHolderId(String policyHolderId) {
+            return claims.values().stream().filter(claim -> claim.getPolicyHolderId().equals(policyHolderId)).toList();
+        }
+
+        @Override
+        public List<Claim> findByStatus(ClaimStatus status) {
+            return claims.values().stream().filter(claim -> claim.getStatus() == status).toList();
+        }
+
+        @Override
+        public List<Claim> findAll() {
+            return List.copyOf(claims.values());
+        }
+
+        @Override
+        public void deleteById(ClaimId claimId) {
+            claims.remove(claimId);
+        }
+    }
+
+    private static class RecordingTransactionManager implements PlatformTransactionManager {
+        private int commits;
+        private int rollbacks;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            commits++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            rollbacks++;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.insurance.claim.claimservice.infrastructure.archive;
+
+import com.insurance.claim.claimservice.domain.model.Claim;
+import com.insurance.claim.claimservice.domain.valueobject.ClaimId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.insurance.claim.claimservice.infrastructure.archive.ArchivedClaims.assertSameClaim;
+import static com.insurance.claim.claimservice.infrastructure.archive.ArchivedClaims.closed;
+import static com.insurance.claim.claimservice.infrastructure.archive.ArchivedClaims.document;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArchiveSegmentTest {
+
+    private static final YearMonth MARCH = YearMonth.of(2025, 3);
+    private static final LocalDateTime CLOSED = LocalDateTime.of(2025, 3, 14, 9, 30);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripsClaimsAcrossBlocks() throws IOException {
+        List<Claim> claims = new ArrayList<>();
+        int number = 0;
+        for (String holder : List.of("holder-d", "holder-a", "holder-c", "holder-b")) {
+            for (int i = 0; i < 3; i++) {
+                claims.add(closed(holder, number++, CLOSED));
+            }
+        }
+        // Longer than DataOutput.writeUTF accepts, and with non-ASCII text
+        claims.add(closed("holder-b", number++, CLOSED, "\u00DCberschwemmung ".repeat(5_000), List.of(document())));
+
+        Map<ClaimId, Long> blockOffsets = new HashMap<>();
+        try (ArchiveSegment written = ArchiveSegment.write(directory, 7, MARCH, claims, 4, List.of(),
+                (claim, blockOffset) -> blockOffsets.put(claim.getId(), blockOffset))) {
+            assertEquals(claims.size(), written.getRecordCount());
+        }
+
+        try (ArchiveSegment segment = ArchiveSegment.open(directory.resolve("claims-2025-03-000007.seg"))) {
+            assertEquals(7, segment.getSequence());
+            assertEquals(MARCH, segment.getPartition());
+            assertEquals(claims.size(), segment.getRecordCount());
+            assertEquals(Set.of(), segment.getReplacedSequences());
+
+            List<Claim> read = segment.readAll();
+            assertEquals(claims.size(), read.size());
+            for (Claim claim : claims) {
+                Claim match = read.stream().filter(c -> c.getId().equals(claim.getId())).findFirst().orElseThrow();
+                assertSameClaim(claim, match);
+                assertSameClaim(claim, segment.findInBlock(blockOffsets.get(claim.getId()),
+                    c -> c.getId().equals(claim.getId())).orElseThrow());
+            }
+            assertEquals(read.stream().map(Claim::getPolicyHolderId).sorted().toList(),
+                read.stream().map(Claim::getPolicyHolderId).toList());
+        }
+    }
+
+    @Test
+    void filterRulesOutMostHoldersInsideTheKeyRange() throws IOException {
+        List<Claim> claims = new ArrayList<>();
+        for (int i = 0; i < 2_000; i += 2) {
+            claims.add(closed(String.format("holder-%05d", i), i, CLOSED));
+        }
+
+        try (ArchiveSegment segment = ArchiveSegment.write(directory, 1, MARCH, claims, 64, List.of(),
+                (claim, blockOffset) -> { })) {
+            assertTrue(claims.stream().allMatch(claim -> segment.mayContain(claim.getPolicyHolderId())));
+
+            long falsePositives = 0;
+            for (int i = 1; i < 2_000; i += 2) {
+                if (segment.mayContain(String.format("holder-%05d", i))) {
+                    falsePositives++;
+                }
+            }
+            assertTrue(falsePositives < 50, falsePositives + " false positives");
+        }
+
+        try (ArchiveSegment reopened = ArchiveSegment.open(directory.resolve("claims-2025-03-000001.seg"))) {
+            assertTrue(reopened.mayContain("holder-01000"));
+            assertEquals(List.of(), reopened.findByPolicyHolderId("holder-01001"));
+        }
+    }
+
+    @Test
+    void mergesSortedSegmentsIntoOneSortedSegment() throws IOException {
+        List<Claim> claims = new ArrayList<>();
+        List<ArchiveSegment> inputs = new ArrayList<>();
+        for (int segment = 0; segment < 3; segment++) {
+            List<Claim> segmentClaims = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                segmentClaims.add(closed(String.format("holder-%02d", (i * 3 + segment * 7) % 11), claims.size(), CLOSED));
+                claims.add(segmentClaims.get(i));
+            }
+            inputs.add(ArchiveSegment.write(directory, segment + 1, MARCH, segmentClaims, 2, List.of(),
+                (claim, blockOffset) -> { }));
+        }
+
+        try (ArchiveSegment merged = ArchiveSegment.write(directory, 4, MARCH, ArchiveSegment.merge(inputs), 4,
+                List.of(1, 2, 3), (claim, blockOffset) -> { })) {
+            assertEquals(claims.size(), merged.getRecordCount());
+            List<Claim> read = merged.readAll();
+            assertEquals(claims.stream().map(Claim::getPolicyHolderId).sorted().toList(),
+                read.stream().map(Claim::getPolicyHolderId).toList());
+            for (Claim claim : claims) {
+                assertSameClaim(claim, read.stream().filter(c -> c.getId().equals(claim.getId())).findFirst().orElseThrow());
+            }
+            assertEquals(claims.stream().filter(claim -> "holder-00".equals(claim.getPolicyHolderId())).count(),
+                merged.findByPolicyHolderId("holder-00").size());
+        } finally {
+            for (ArchiveSegment input : inputs) {
+                input.close();
+            }
+        }
+    }
+
+    @Test
+    void findsPolicyHoldersThroughTheSparseIndex() throws IOException {
+        List<Claim> claims = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            claims.add(closed(String.format("holder-%02d", i % 10), i, CLOSED));
+        }
+
+        try (ArchiveSegment segment = ArchiveSegment.write(directory, 1, MARCH, claims, 3, List.of(4, 5),
+                (claim, blockOffset) -> { })) {
+            for (int holder = 0; holder < 10; holder++) {
+                String policyHolderId = String.format("holder-%02d", holder);
+                List<Claim> found = segment.findByPolicyHolderId(policyHolderId);
+                assertEquals(4, found.size(), policyHolderId);
+                assertTrue(found.stream().allMatch(claim -> policyHolderId.equals(claim.getPolicyHolderId())));
+            }
+
+            assertTrue(segment.mayContain("holder-05"));
+            assertFalse(segment.mayContain("holder-"));
+            assertFalse(segment.mayContain("holder-99"));
+            assertEquals(List.of(), segment.findByPolicyHolderId("holder-99"));
+            assertEquals(Set.of(4, 5), segment.getReplacedSequences());
+
+            assertEquals(claims.stream().map(Claim::getPolicyHolderId).sorted(Comparator.naturalOrder()).toList(),
+                segment.readAll().stream().map(Claim::getPolicyHolderId).toList());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.insurance.claim.claimservice.infrastructure.archive;
+
+import com.insurance.claim.claimservice.domain.model.Claim;
+import com.insurance.claim.claimservice.domain.model.Document;
+import com.insurance.claim.claimservice.domain.valueobject.ClaimId;
+import com.insurance.claim.claimservice.domain.valueobject.ClaimStatus;
+import com.insurance.claim.claimservice.domain.valueobject.DocumentId;
+import com.insurance.claim.claimservice.domain.valueobject.DocumentType;
+import com.insurance.claim.claimservice.domain.valueobject.PolicyDetails;
+import com.insurance.claim.common.domain.valueobjects.Currency;
+import com.insurance.claim.common.domain.valueobjects.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Closed claims for archive tests
+ */
+final class ArchivedClaims {
+
+    private ArchivedClaims() {
+    }
+
+    static Claim closed(String policyHolderId, int number, LocalDateTime closedDate) {
+        return closed(policyHolderId, number, closedDate, "Water damage in kitchen", List.of());
+    }
+
+    static Claim closed(String policyHolderId, int number, LocalDateTime closedDate,
+                        String incidentDescription, List<Document> documents) {
+        PolicyDetails policyDetails = new PolicyDetails("POL-" + policyHolderId, "HOME",
+            LocalDate.of(2024, 1, 1), LocalDate.of(2026, 12, 31),
+            Money.of(new BigDecimal("50000.00"), Currency.EUR), Money.of(new BigDecimal("250.00"), Currency.EUR));
+
+        return Claim.reconstitute(new ClaimId(UUID.randomUUID()), String.format("CLM-20250301-%05d", number),
+            policyHolderId, closedDate.minusDays(40), incidentDescription, policyDetails,
+            Money.of(new BigDecimal("1200.50"), Currency.EUR), ClaimStatus.CLOSED, documents, null,
+            closedDate.minusDays(35), closedDate.minusDays(30), "PAY-" + number, closedDate.minusDays(5),
+            closedDate);
+    }
+
+    static Document document() {
+        return new Document(new DocumentId(UUID.randomUUID()), "invoice.pdf", "application/pdf",
+            "s3://claims/invoice.pdf", DocumentType.INVOICE, "adjuster-7", LocalDateTime.of(2025, 2, 3, 10, 15));
+    }
+
+    static void assertSameClaim(Claim expected, Claim actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getClaimNumber(), actual.getClaimNumber());
+        assertEquals(expected.getPolicyHolderId(), actual.getPolicyHolderId());
+        assertEquals(expected.getIncidentDate(), actual.getIncidentDate());
+        assertEquals(expected.getIncidentDescription(), actual.getIncidentDescription());
+        assertEquals(expected.getPolicyDetails(), actual.getPolicyDetails());
+        assertEquals(expected.getClaimAmount(), actual.getClaimAmount());
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getRejectionReason(), actual.getRejectionReason());
+        assertEquals(expected.getSubmissionDate(), actual.getSubmissionDate());
+        assertEquals(expected.getProcessingDate(), actual.getProcessingDate());
+        assertEquals(expected.getPaymentReference(), actual.getPaymentReference());
+        assertEquals(expected.getPaymentDate(), actual.getPaymentDate());
+        assertEquals(expected.getClosedDate(), actual.getClosedDate());
+
+        assertEquals(expected.getDocuments().size(), actual.getDocuments().size());
+        for (int i = 0; i < expected.getDocuments().size(); i++) {
+            Document expectedDocument = expected.getDocuments().get(i);
+            Document actualDocument = actual.getDocuments().get(i);
+            assertEquals(expectedDocument.getId(), actualDocument.getId());
+            assertEquals(expectedDocument.getFileName(), actualDocument.getFileName());
+            assertEquals(expectedDocument.getContentType(), actualDocument.getContentType());
+            assertEquals(expectedDocument.getStorageLocation(), actualDocument.getStorageLocation());
+            assertEquals(expectedDocument.getDocumentType(), actualDocument.getDocumentType());
+            assertEquals(expectedDocument.getUploadedBy(), actualDocument.getUploadedBy());
+            assertEquals(expectedDocument.getUploadedAt(), actualDocument.getUploadedAt());
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.insurance.claim.claimservice.infrastructure.archive;
+
+import com.insurance.claim.claimservice.domain.model.Claim;
+import com.insurance.claim.claimservice.infrastructure.index.ClaimLocationIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.insurance.claim.claimservice.infrastructure.archive.ArchivedClaims.assertSameClaim;
+import static com.insurance.claim.claimservice.infrastructure.archive.ArchivedClaims.closed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SegmentClaimArchiveTest {
+
+    private static final LocalDateTime MARCH = LocalDateTime.of(2025, 3, 14, 9, 30);
+    private static final LocalDateTime APRIL = LocalDateTime.of(2025, 4, 2, 16, 0);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void skipsClaimsThatAreAlreadyArchived() throws IOException {
+        Claim claim = closed("holder-a", 1, MARCH);
+
+        try (ClaimLocationIndex index = ClaimLocationIndex.open(directory.resolve("index"), 100);
+             SegmentClaimArchive archive = SegmentClaimArchive.open(directory.resolve("segments"), 4, 4, index)) {
+            archive.archive(List.of(claim));
+            archive.archive(List.of(claim));
+
+            assertEquals(1, archive.getSegmentCount());
+            assertEquals(1, archive.findByPolicyHolderId("holder-a").size());
+            assertSameClaim(claim, archive.findById(claim.getId()).orElseThrow());
+            assertSameClaim(claim, archive.findByClaimNumber(claim.getClaimNumber()).orElseThrow());
+        }
+    }
+
+    @Test
+    void keepsTheEarlierClaimReachableWhenClaimNumbersCollide() throws IOException {
+        Claim earlier = closed("holder-a", 7, MARCH);
+        Claim later = closed("holder-b", 7, APRIL);
+
+        try (ClaimLocationIndex index = ClaimLocationIndex.open(directory.resolve("index"), 100);
+             SegmentClaimArchive archive = SegmentClaimArchive.open(directory.resolve("segments"), 4, 4, index)) {
+            archive.archive(List.of(earlier));
+            archive.archive(List.of(later));
+
+            assertEquals(earlier.getClaimNumber(), later.getClaimNumber());
+            assertSameClaim(earlier, archive.findByClaimNumber(earlier.getClaimNumber()).orElseThrow());
+            assertSameClaim(later, archive.findById(later.getId()).orElseThrow());
+        }
+    }
+
+    @Test
+    void compactsAMonthOnceItHasTooManySegments() throws IOException {
+        Path segments = directory.resolve("segments");
+        List<Claim> march = new ArrayList<>();
+        Claim april = closed("holder-b", 99, APRIL);
+
+        try (ClaimLocationIndex index = ClaimLocationIndex.open(directory.resolve("index"), 100);
+             SegmentClaimArchive archive = SegmentClaimArchive.open(segments, 2, 3, index)) {
+            archive.archive(List.of(april));
+            for (int run = 0; run < 4; run++) {
+                Claim claim = closed("holder-" + run % 2, run, MARCH);
+                march.add(claim);
+                archive.archive(List.of(claim));
+            }
+
+            // Four March segments were merged into one, April is untouched
+            assertEquals(2, archive.getSegmentCount());
+            assertEquals(2, segmentFiles(segments));
+            assertEquals(2, archive.findByPolicyHolderId("holder-0").size());
+            for (Claim claim : march) {
+                assertSameClaim(claim, archive.findById(claim.getId()).orElseThrow());
+            }
+            assertSameClaim(april, archive.findById(april.getId()).orElseThrow());
+            List<Claim> all = archive.findAll();
+            assertEquals(5, all.size());
+            assertEquals(april.getId(), all.get(0).getId());
+        }
+
+        // A fresh index is rebuilt from the compacted segments
+        try (ClaimLocationIndex index = ClaimLocationIndex.open(directory.resolve("rebuilt-index"), 100);
+             SegmentClaimArchive reopened = SegmentClaimArchive.open(segments, 2, 3, index)) {
+            assertEquals(5, index.size());
+            for (Claim claim : march) {
+                assertSameClaim(claim, reopened.findById(claim.getId()).orElseThrow());
+            }
+        }
+    }
+
+    @Test
+    void mergesOnlyTheSmallSegmentsOfAMonth() throws IOException {
+        Path segments = directory.resolve("segments");
+        List<Claim> large = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            large.add(closed("holder-" + i % 3, i, MARCH));
+        }
+        List<Claim> small = new ArrayList<>();
+
+        try (ClaimLocationIndex index = ClaimLocationIndex.open(directory.resolve("index"), 100);
+             SegmentClaimArchive archive = SegmentClaimArchive.open(segments, 2, 3, index)) {
+            archive.archive(large);
+            Path largeSegment = segmentFileList(segments).get(0);
+            for (int run = 0; run < 3; run++) {
+                Claim claim = closed("holder-" + run, 100 + run, MARCH);
+                small.add(claim);
+                archive.archive(List.of(claim));
+            }
+
+            // The three small segments were merged, the large one was left alone
+            assertEquals(2, archive.getSegmentCount());
+            assertTrue(segmentFileList(segments).contains(largeSegment));
+            assertEquals(4, archive.findByPolicyHolderId("holder-0").size());
+            for (Claim claim : small) {
+                assertSameClaim(claim, archive.findById(claim.getId()).orElseThrow());
+            }
+            assertEquals(11, archive.findAll().size());
+
+            // Once the small segments being merged add up to the large one, it is merged too
+            for (int run = 3; run < 12; run++) {
+                archive.archive(List.of(closed("holder-" + run % 3, 100 + run, MARCH)));
+                assertTrue(archive.getSegmentCount() <= 3);
+                assertEquals(run < 11, segmentFileList(segments).contains(largeSegment));
+            }
+            assertEquals(1, archive.getSegmentCount());
+            assertEquals(20, archive.findAll().size());
+            for (Claim claim : large) {
+                assertSameClaim(claim, archive.findById(claim.getId()).orElseThrow());
+            }
+        }
+    }
+
+    @Test
+    void dropsSegmentsReplacedByAnInterruptedCompaction() throws IOException {
+        Path segments = directory.resolve("segments");
+        Files.createDirectories(segments);
+        Claim first = closed("holder-a", 1, MARCH);
+        Claim second = closed("holder-a", 2, MARCH);
+
+        // Simulate a crash after the merged segment was written but before the old ones were deleted
+        ArchiveSegment.write(segments, 1, YearMonth.from(MARCH), List.of(first), 2, List.of(),
+            (claim, blockOffset) -> { }).close();
+        ArchiveSegment.write(segments, 2, YearMonth.from(MARCH), List.of(second), 2, List.of(),
+            (claim, blockOffset) -> { }).close();
+        ArchiveSegment.write(segments, 3, YearMonth.from(MARCH), List.of(first, second), 2, List.of(1, 2),
+            (claim, blockOffset) -> { }).close();
+
+        try (ClaimLocationIndex index = ClaimLocationIndex.open(directory.resolve("index"), 100);
+             SegmentClaimArchive archive = SegmentClaimArchive.open(segments, 2, 3, index)) {
+            assertEquals(1, archive.getSegmentCount());
+            assertEquals(1, segmentFiles(segments));
+            assertEquals(2, archive.findByPolicyHolderId("holder-a").size());
+            assertTrue(archive.findById(first.getId()).isPresent());
+            assertTrue(archive.findById(second.getId()).isPresent());
+        }
+    }
+
+    private static long segmentFiles(Path directory) throws IOException {
+        return segmentFileList(directory).size();
+    }
+
+    private static List<Path> segmentFileList(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(ArchiveSegment::isSegmentFile).toList();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.insurance.claim.claimservice.infrastructure.index;
+
+import com.insurance.claim.claimservice.domain.valueobject.ClaimId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ClaimLocationIndexTest {
+
+    private static final String CLAIM_NUMBER = "CLM-20250301-04711";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void collidingClaimNumbersKeepEveryClaimReachable() throws IOException {
+        ClaimId first = new ClaimId(UUID.randomUUID());
+        ClaimId second = new ClaimId(UUID.randomUUID());
+
+        try (ClaimLocationIndex index = ClaimLocationIndex.open(directory, 100)) {
+            index.put(first, CLAIM_NUMBER, 10);
+            index.put(second, CLAIM_NUMBER, 20);
+
+            assertArrayEquals(new long[] {10, 20}, index.findOffsetsByClaimNumber(CLAIM_NUMBER));
+            assertEquals(OptionalLong.of(10), index.findOffset(first));
+            assertEquals(OptionalLong.of(20), index.findOffset(second));
+            assertArrayEquals(new long[0], index.findOffsetsByClaimNumber("CLM-20250301-04712"));
+            assertArrayEquals(new long[0], index.findOffsetsByClaimNumber("not-a-claim-number"));
+        }
+    }
+
+    @Test
+    void reindexingAClaimMovesOnlyItsOwnNumberEntry() throws IOException {
+        ClaimId first = new ClaimId(UUID.randomUUID());
+        ClaimId second = new ClaimId(UUID.randomUUID());
+
+        try (ClaimLocationIndex index = ClaimLocationIndex.open(directory, 100)) {
+            index.put(first, CLAIM_NUMBER, 10);
+            index.put(second, CLAIM_NUMBER, 20);
+            index.put(second, CLAIM_NUMBER, 30);
+            index.put(first, CLAIM_NUMBER, 10);
+
+            assertArrayEquals(new long[] {10, 30}, index.findOffsetsByClaimNumber(CLAIM_NUMBER));
+            assertEquals(2, index.size());
+        }
+
+        try (ClaimLocationIndex reopened = ClaimLocationIndex.open(directory, 100)) {
+            assertArrayEquals(new long[] {10, 30}, reopened.findOffsetsByClaimNumber(CLAIM_NUMBER));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.insurance.claim.claimservice.infrastructure.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedHashIndexTest {
+
+    private static final long CAPACITY = 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void putGetAndRemove() throws IOException {
+        try (MappedHashIndex index = MappedHashIndex.open(directory.resolve("test.idx"), 10)) {
+            index.put(1, 2, 0);
+            index.put(3, 4, 42);
+
+            assertEquals(0, index.get(1, 2));
+            assertEquals(42, index.get(3, 4));
+            assertEquals(MappedHashIndex.NOT_FOUND, index.get(1, 4));
+
+            index.put(3, 4, 43);
+            assertEquals(43, index.get(3, 4));
+            assertEquals(2, index.size());
+
+            assertTrue(index.remove(1, 2));
+            assertFalse(index.remove(1, 2));
+            assertEquals(MappedHashIndex.NOT_FOUND, index.get(1, 2));
+            assertEquals(1, index.size());
+
+            assertThrows(IllegalArgumentException.class, () -> index.put(5, 6, -1));
+        }
+    }
+
+    @Test
+    void probeChainsWrapAroundTheEndOfTheTable() throws IOException {
+        // Three keys whose home is the last slot occupy slots 1023, 0 and 1; a key homed at 0 lands in 2
+        List<long[]> homedAtEnd = keysWithHome(CAPACITY - 1, 3);
+        long[] homedAtStart = keysWithHome(0, 1).get(0);
+
+        try (MappedHashIndex index = MappedHashIndex.open(directory.resolve("wrap.idx"), 10)) {
+            for (int i = 0; i < homedAtEnd.size(); i++) {
+                index.put(homedAtEnd.get(i)[0], homedAtEnd.get(i)[1], i);
+            }
+            index.put(homedAtStart[0], homedAtStart[1], 100);
+
+            // Removing the head of the chain must shift the wrapped entries back across slot 0
+            assertTrue(index.remove(homedAtEnd.get(0)[0], homedAtEnd.get(0)[1]));
+            assertEquals(1, index.get(homedAtEnd.get(1)[0], homedAtEnd.get(1)[1]));
+            assertEquals(2, index.get(homedAtEnd.get(2)[0], homedAtEnd.get(2)[1]));
+            assertEquals(100, index.get(homedAtStart[0], homedAtStart[1]));
+
+            assertTrue(index.remove(homedAtEnd.get(2)[0], homedAtEnd.get(2)[1]));
+            assertEquals(1, index.get(homedAtEnd.get(1)[0], homedAtEnd.get(1)[1]));
+            assertEquals(100, index.get(homedAtStart[0], homedAtStart[1]));
+            assertEquals(2, index.size());
+        }
+    }
+
+    @Test
+    void resizePreservesEntriesAndSurvivesReopen() throws IOException {
+        Path file = directory.resolve("grow.idx");
+        Map<List<Long>, Long> expected = new HashMap<>();
+        Random random = new Random(7);
+
+        try (MappedHashIndex index = MappedHashIndex.open(file, 10)) {
+            // Well past the initial capacity, so the table doubles several times
+            for (long i = 0; i < 5_000; i++) {
+                long keyHigh = random.nextLong();
+                long keyLow = random.nextLong();
+                index.put(keyHigh, keyLow, i);
+                expected.put(List.of(keyHigh, keyLow), i);
+            }
+            // Mix in removals so backward-shift runs on the resized table
+            for (List<Long> key : new ArrayList<>(expected.keySet()).subList(0, 1_000)) {
+                assertTrue(index.remove(key.get(0), key.get(1)));
+                expected.remove(key);
+            }
+            assertIndexMatches(index, expected);
+        }
+
+        try (MappedHashIndex reopened = MappedHashIndex.open(file, 10)) {
+            assertIndexMatches(reopened, expected);
+
+            reopened.put(1, 1, 1);
+            assertEquals(1, reopened.get(1, 1));
+        }
+    }
+
+    private static void assertIndexMatches(MappedHashIndex index, Map<List<Long>, Long> expected) {
+        assertEquals(expected.size(), index.size());
+        expected.forEach((key, value) -> assertEquals(value, index.get(key.get(0), key.get(1))));
+    }
+
+    private static List<long[]> keysWithHome(long home, int count) {
+        List<long[]> keys = new ArrayList<>();
+        for (long candidate = 1; keys.size() < count; candidate++) {
+            if ((MappedHashIndex.hash(candidate, 0) & (CAPACITY - 1)) == home) {
+                keys.add(new long[] {candidate, 0});
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,30 @@
+package com.insurance.claim.paymentservice.api;
+
+import com.insurance.claim.paymentservice.application.dto.ClaimApprovalDto;
+import com.insurance.claim.paymentservice.application.service.PaymentSchedulingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/payments")
+@RequiredArgsConstructor
+public class PaymentController {
+
+    private final PaymentSchedulingService paymentSchedulingService;
+
+    /**
+     * Queues approved claims for the next payment run
+     */
+    @PostMapping("/approvals")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void submitApprovals(@RequestBody List<ClaimApprovalDto> approvals) {
+        paymentSchedulingService.acceptApprovals(approvals);
+    }
+}
@@ -0,0 +1,23 @@
+package com.insurance.claim.paymentservice.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimApprovalDto {
+    private UUID claimId;
+    private String claimNumber;
+    private String payeeId;
+    private BigDecimal amount;
+    private String currency;
+    private LocalDateTime approvalDate;
+}
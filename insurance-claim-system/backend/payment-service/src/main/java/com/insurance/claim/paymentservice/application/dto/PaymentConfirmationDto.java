@@ -0,0 +1,17 @@
+package com.insurance.claim.paymentservice.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentConfirmationDto {
+    private UUID claimId;
+    private String paymentReference;
+}
@@ -0,0 +1,198 @@
+package com.insurance.claim.paymentservice.application.service;
+
+import com.insurance.claim.common.domain.valueobjects.Currency;
+import com.insurance.claim.common.domain.valueobjects.Money;
+import com.insurance.claim.paymentservice.application.dto.ClaimApprovalDto;
+import com.insurance.claim.paymentservice.application.dto.PaymentConfirmationDto;
+import com.insurance.claim.paymentservice.domain.model.PaymentInstruction;
+import com.insurance.claim.paymentservice.domain.model.PaymentRun;
+import com.insurance.claim.paymentservice.domain.repository.PaymentInstructionRepository;
+import com.insurance.claim.paymentservice.domain.repository.PaymentRunRepository;
+import com.insurance.claim.paymentservice.domain.service.PaymentProvider;
+import com.insurance.claim.paymentservice.domain.valueobject.PaymentInstructionStatus;
+import com.insurance.claim.paymentservice.domain.valueobject.PaymentRunStatus;
+import com.insurance.claim.paymentservice.domain.valueobject.Payout;
+import com.insurance.claim.paymentservice.domain.valueobject.PayoutReceipt;
+import com.insurance.claim.paymentservice.infrastructure.client.ClaimServiceClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Batched payment pipeline: approvals are queued as deduplicated instructions, periodically
+ * aggregated into a payment run with one payout per payee and currency, settled with the
+ * provider in one call, and reconciled back into the claim service in one call. Reconciled
+ * instructions and completed runs are evicted once they are older than the retention period.
+ */
+@Slf4j
+@Service
+public class PaymentSchedulingService {
+
+    private final PaymentInstructionRepository paymentInstructionRepository;
+    private final PaymentRunRepository paymentRunRepository;
+    private final PaymentProvider paymentProvider;
+    private final ClaimServiceClient claimServiceClient;
+    private final Duration retention;
+
+    public PaymentSchedulingService(PaymentInstructionRepository paymentInstructionRepository,
+                                    PaymentRunRepository paymentRunRepository,
+                                    PaymentProvider paymentProvider,
+                                    ClaimServiceClient claimServiceClient,
+                                    @Value("${payment.retention:P7D}") Duration retention) {
+        this.paymentInstructionRepository = paymentInstructionRepository;
+        this.paymentRunRepository = paymentRunRepository;
+        this.paymentProvider = paymentProvider;
+        this.claimServiceClient = claimServiceClient;
+        this.retention = retention;
+    }
+
+    /**
+     * Stores the approvals durably before returning, so an acknowledged approval is never lost
+     * @return The number of approvals that were new; redelivered approvals are ignored
+     */
+    public int acceptApprovals(List<ClaimApprovalDto> approvals) {
+        List<PaymentInstruction> instructions = approvals.stream()
+            .map(approval -> PaymentInstruction.forApprovedClaim(
+                approval.getClaimId(),
+                approval.getClaimNumber(),
+                approval.getPayeeId(),
+                Money.of(approval.getAmount(), Currency.valueOf(approval.getCurrency()))))
+            .toList();
+
+        return paymentInstructionRepository.saveAllIfAbsent(instructions).size();
+    }
+
+    @Scheduled(fixedDelayString = "${payment.run.interval:PT30S}")
+    public void executePaymentCycle() {
+        executePaymentRun();
+        reconcilePaidInstructions();
+    }
+
+    /**
+     * Resubmits any run that never got its receipts, then plans and submits a run for the
+     * pending instructions. A run and its scheduled instructions are stored before the provider
+     * is called, so a failed or timed-out submission is retried under the same idempotency keys
+     * instead of being paid again in a new run.
+     */
+    public void executePaymentRun() {
+        for (PaymentRun unfinished : paymentRunRepository.findByStatus(PaymentRunStatus.PLANNED)) {
+            if (!submit(unfinished)) {
+                // Keep the provider's order of runs; new instructions wait for the next cycle
+                return;
+            }
+        }
+
+        List<PaymentInstruction> pending = paymentInstructionRepository.findByStatus(PaymentInstructionStatus.PENDING);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        PaymentRun paymentRun = PaymentRun.plan(pending);
+        paymentRunRepository.save(paymentRun);
+        for (PaymentInstruction instruction : pending) {
+            instruction.scheduleIn(paymentRun.getId());
+        }
+        paymentInstructionRepository.saveAll(pending);
+
+        submit(paymentRun);
+    }
+
+    /**
+     * Confirms every paid but unreconciled instruction with the claim service in one batch.
+     * The claim service ignores confirmations it has already applied, so a failed
+     * batch is simply retried on the next cycle.
+     */
+    public void reconcilePaidInstructions() {
+        List<PaymentInstruction> paid = paymentInstructionRepository.findByStatus(PaymentInstructionStatus.PAID);
+        if (paid.isEmpty()) {
+            return;
+        }
+
+        List<PaymentConfirmationDto> confirmations = paid.stream()
+            .map(instruction -> PaymentConfirmationDto.builder()
+                .claimId(instruction.getClaimId())
+                .paymentReference(instruction.getPaymentReference())
+                .build())
+            .toList();
+
+        try {
+            claimServiceClient.confirmPayments(confirmations);
+        } catch (RestClientException e) {
+            log.warn("Could not reconcile {} payments with the claim service", confirmations.size(), e);
+            return;
+        }
+
+        for (PaymentInstruction instruction : paid) {
+            instruction.markReconciled();
+        }
+        paymentInstructionRepository.saveAll(paid);
+    }
+
+    /**
+     * Drops reconciled instructions and completed runs past the retention period. Their claims are
+     * PAID in the claim service and are never handed over again, so their deduplication keys are no
+     * longer needed.
+     */
+    @Scheduled(fixedDelayString = "${payment.retention.interval:PT1H}")
+    public void evictSettledRecords() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int instructions = paymentInstructionRepository.deleteReconciledBefore(cutoff);
+        int runs = paymentRunRepository.deleteCompletedBefore(cutoff);
+        if (instructions > 0 || runs > 0) {
+            log.info("Evicted {} reconciled payment instructions and {} completed payment runs", instructions, runs);
+        }
+    }
+
+    private boolean submit(PaymentRun paymentRun) {
+        Map<String, String> referencesByPayout;
+        try {
+            referencesByPayout = paymentProvider.submit(paymentRun).stream()
+                .collect(Collectors.toMap(PayoutReceipt::getIdempotencyKey, PayoutReceipt::getProviderReference));
+        } catch (RuntimeException e) {
+            log.warn("Payment run {} could not be submitted, retrying next cycle", paymentRun.getId().getValue(), e);
+            return false;
+        }
+        if (!referencesByPayout.keySet().containsAll(
+                paymentRun.getPayouts().stream().map(Payout::getIdempotencyKey).toList())) {
+            log.warn("Payment run {} is missing payout receipts, retrying next cycle", paymentRun.getId().getValue());
+            return false;
+        }
+
+        int claims = 0;
+        List<PaymentInstruction> paid = new ArrayList<>();
+        for (Payout payout : paymentRun.getPayouts()) {
+            String reference = referencesByPayout.get(payout.getIdempotencyKey());
+            for (UUID claimId : payout.getClaimIds()) {
+                paymentInstructionRepository.findById(PaymentInstruction.deduplicationKey(claimId))
+                    .filter(instruction -> instruction.getStatus() == PaymentInstructionStatus.SCHEDULED
+                        || instruction.getStatus() == PaymentInstructionStatus.PENDING)
+                    .ifPresent(instruction -> {
+                        // Still PENDING if the process stopped between storing the run and its instructions
+                        if (instruction.getStatus() == PaymentInstructionStatus.PENDING) {
+                            instruction.scheduleIn(paymentRun.getId());
+                        }
+                        instruction.markPaid(reference);
+                        paid.add(instruction);
+                    });
+                claims++;
+            }
+        }
+        paymentInstructionRepository.saveAll(paid);
+        paymentRun.complete();
+        paymentRunRepository.save(paymentRun);
+
+        log.info("Payment run {} paid {} claims in {} payouts",
+            paymentRun.getId().getValue(), claims, paymentRun.getPayouts().size());
+        return true;
+    }
+}
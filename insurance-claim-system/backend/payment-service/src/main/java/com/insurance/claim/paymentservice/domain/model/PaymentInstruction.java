@@ -0,0 +1,91 @@
+package com.insurance.claim.paymentservice.domain.model;
+
+import com.insurance.claim.common.domain.model.Entity;
+import com.insurance.claim.common.domain.valueobjects.Money;
+import com.insurance.claim.paymentservice.domain.valueobject.PaymentInstructionStatus;
+import com.insurance.claim.paymentservice.domain.valueobject.PaymentRunId;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A request to pay out one approved claim. Identified by its deduplication key,
+ * so an approval delivered more than once results in a single instruction.
+ */
+@Getter
+public class PaymentInstruction extends Entity<String> {
+    private final UUID claimId;
+    private final String claimNumber;
+    private final String payeeId;
+    private final Money amount;
+    private final LocalDateTime receivedAt;
+    private PaymentInstructionStatus status;
+    private PaymentRunId paymentRunId;
+    private String paymentReference;
+    private LocalDateTime reconciledAt;
+    
+    private PaymentInstruction(String deduplicationKey, UUID claimId, String claimNumber,
+                               String payeeId, Money amount, LocalDateTime receivedAt) {
+        super(deduplicationKey);
+        this.claimId = claimId;
+        this.claimNumber = claimNumber;
+        this.payeeId = payeeId;
+        this.amount = amount;
+        this.status = PaymentInstructionStatus.PENDING;
+        this.receivedAt = receivedAt;
+    }
+    
+    public static PaymentInstruction forApprovedClaim(UUID claimId, String claimNumber,
+                                                      String payeeId, Money amount) {
+        return new PaymentInstruction(deduplicationKey(claimId), claimId, claimNumber, payeeId, amount,
+                                      LocalDateTime.now());
+    }
+    
+    /**
+     * Rebuilds an instruction from stored state
+     */
+    public static PaymentInstruction reconstitute(UUID claimId, String claimNumber, String payeeId, Money amount,
+                                                  LocalDateTime receivedAt, PaymentInstructionStatus status,
+                                                  PaymentRunId paymentRunId, String paymentReference,
+                                                  LocalDateTime reconciledAt) {
+        PaymentInstruction instruction = new PaymentInstruction(deduplicationKey(claimId), claimId, claimNumber,
+                                                                payeeId, amount, receivedAt);
+        instruction.status = status;
+        instruction.paymentRunId = paymentRunId;
+        instruction.paymentReference = paymentReference;
+        instruction.reconciledAt = reconciledAt;
+        return instruction;
+    }
+    
+    public static String deduplicationKey(UUID claimId) {
+        return "claim-approval:" + claimId;
+    }
+    
+    public void scheduleIn(PaymentRunId paymentRunId) {
+        if (status != PaymentInstructionStatus.PENDING) {
+            throw new IllegalStateException("Payment instruction cannot be scheduled as it's not in PENDING state");
+        }
+        
+        status = PaymentInstructionStatus.SCHEDULED;
+        this.paymentRunId = paymentRunId;
+    }
+    
+    public void markPaid(String paymentReference) {
+        if (status != PaymentInstructionStatus.SCHEDULED) {
+            throw new IllegalStateException("Payment instruction cannot be paid as it's not in SCHEDULED state");
+        }
+        
+        status = PaymentInstructionStatus.PAID;
+        this.paymentReference = paymentReference;
+    }
+    
+    public void markReconciled() {
+        if (status != PaymentInstructionStatus.PAID) {
+            throw new IllegalStateException("Payment instruction cannot be reconciled as it's not in PAID state");
+        }
+        
+        status = PaymentInstructionStatus.RECONCILED;
+        reconciledAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,101 @@
+package com.insurance.claim.paymentservice.domain.model;
+
+import com.insurance.claim.common.domain.model.AggregateRoot;
+import com.insurance.claim.common.domain.valueobjects.Currency;
+import com.insurance.claim.common.domain.valueobjects.Money;
+import com.insurance.claim.paymentservice.domain.valueobject.PaymentRunId;
+import com.insurance.claim.paymentservice.domain.valueobject.PaymentRunStatus;
+import com.insurance.claim.paymentservice.domain.valueobject.Payout;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * A batch of payouts built from pending payment instructions, aggregated per payee and currency.
+ * A run stays PLANNED until the provider's receipts have been applied, and an unfinished run is
+ * resubmitted with its original idempotency keys rather than replanned. Payout keys are derived
+ * from the claims they cover rather than from the run, so planning the same claims again, in any
+ * run, yields the same keys and the provider settles them once.
+ */
+@Getter
+public class PaymentRun extends AggregateRoot<PaymentRunId> {
+    private final LocalDateTime createdAt;
+    private final List<Payout> payouts;
+    private PaymentRunStatus status;
+    private LocalDateTime completedAt;
+    
+    private PaymentRun(PaymentRunId id, LocalDateTime createdAt, List<Payout> payouts) {
+        super(id);
+        this.createdAt = createdAt;
+        this.payouts = payouts;
+        this.status = PaymentRunStatus.PLANNED;
+    }
+    
+    public static PaymentRun plan(List<PaymentInstruction> instructions) {
+        PaymentRunId runId = new PaymentRunId(UUID.randomUUID());
+        
+        Map<String, List<PaymentInstruction>> byPayeeAndCurrency = new LinkedHashMap<>();
+        for (PaymentInstruction instruction : instructions) {
+            String payoutKey = instruction.getPayeeId() + ":" + instruction.getAmount().getCurrency();
+            byPayeeAndCurrency.computeIfAbsent(payoutKey, key -> new ArrayList<>()).add(instruction);
+        }
+        
+        List<Payout> payouts = new ArrayList<>(byPayeeAndCurrency.size());
+        byPayeeAndCurrency.forEach((payoutKey, grouped) -> {
+            Currency currency = grouped.get(0).getAmount().getCurrency();
+            Money total = Money.zero(currency);
+            List<UUID> claimIds = new ArrayList<>(grouped.size());
+            for (PaymentInstruction instruction : grouped) {
+                total = total.add(instruction.getAmount());
+                claimIds.add(instruction.getClaimId());
+            }
+            payouts.add(new Payout(idempotencyKey(payoutKey, claimIds), grouped.get(0).getPayeeId(),
+                                   total, Collections.unmodifiableList(claimIds)));
+        });
+        
+        return new PaymentRun(runId, LocalDateTime.now(), payouts);
+    }
+    
+    /**
+     * Rebuilds a run from stored state
+     */
+    public static PaymentRun reconstitute(PaymentRunId id, LocalDateTime createdAt, List<Payout> payouts,
+                                          PaymentRunStatus status, LocalDateTime completedAt) {
+        PaymentRun paymentRun = new PaymentRun(id, createdAt, List.copyOf(payouts));
+        paymentRun.status = status;
+        paymentRun.completedAt = completedAt;
+        return paymentRun;
+    }
+    
+    public void complete() {
+        if (status != PaymentRunStatus.PLANNED) {
+            throw new IllegalStateException("Payment run cannot be completed as it's not in PLANNED state");
+        }
+        
+        status = PaymentRunStatus.COMPLETED;
+        completedAt = LocalDateTime.now();
+    }
+    
+    public List<Payout> getPayouts() {
+        return Collections.unmodifiableList(payouts);
+    }
+    
+    /**
+     * {@code payee:currency:uuid}, where the name-based UUID is computed from the sorted claim ids
+     */
+    static String idempotencyKey(String payoutKey, List<UUID> claimIds) {
+        String sortedClaimIds = claimIds.stream()
+            .sorted()
+            .map(UUID::toString)
+            .collect(Collectors.joining(","));
+        return payoutKey + ":" + UUID.nameUUIDFromBytes(sortedClaimIds.getBytes(StandardCharsets.UTF_8));
+    }
+}
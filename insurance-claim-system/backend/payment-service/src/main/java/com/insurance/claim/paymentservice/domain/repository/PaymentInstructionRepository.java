@@ -0,0 +1,28 @@
+package com.insurance.claim.paymentservice.domain.repository;
+
+import com.insurance.claim.paymentservice.domain.model.PaymentInstruction;
+import com.insurance.claim.paymentservice.domain.valueobject.PaymentInstructionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentInstructionRepository {
+    /**
+     * Durably stores each instruction unless one with the same deduplication key already exists
+     * @return The instructions that were stored
+     */
+    List<PaymentInstruction> saveAllIfAbsent(List<PaymentInstruction> instructions);
+    PaymentInstruction save(PaymentInstruction instruction);
+    /**
+     * Durably stores the instructions in one write
+     */
+    void saveAll(List<PaymentInstruction> instructions);
+    Optional<PaymentInstruction> findById(String deduplicationKey);
+    List<PaymentInstruction> findByStatus(PaymentInstructionStatus status);
+    /**
+     * Removes instructions reconciled before {@code cutoff}
+     * @return The number of instructions removed
+     */
+    int deleteReconciledBefore(LocalDateTime cutoff);
+}
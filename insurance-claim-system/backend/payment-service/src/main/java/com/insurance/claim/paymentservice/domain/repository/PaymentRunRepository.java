@@ -0,0 +1,20 @@
+package com.insurance.claim.paymentservice.domain.repository;
+
+import com.insurance.claim.paymentservice.domain.model.PaymentRun;
+import com.insurance.claim.paymentservice.domain.valueobject.PaymentRunId;
+import com.insurance.claim.paymentservice.domain.valueobject.PaymentRunStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentRunRepository {
+    PaymentRun save(PaymentRun paymentRun);
+    Optional<PaymentRun> findById(PaymentRunId paymentRunId);
+    List<PaymentRun> findByStatus(PaymentRunStatus status);
+    /**
+     * Removes runs completed before {@code cutoff}
+     * @return The number of runs removed
+     */
+    int deleteCompletedBefore(LocalDateTime cutoff);
+}
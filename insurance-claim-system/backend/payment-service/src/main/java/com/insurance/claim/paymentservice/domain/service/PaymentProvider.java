@@ -0,0 +1,19 @@
+package com.insurance.claim.paymentservice.domain.service;
+
+import com.insurance.claim.paymentservice.domain.model.PaymentRun;
+import com.insurance.claim.paymentservice.domain.valueobject.PayoutReceipt;
+
+import java.util.List;
+
+/**
+ * Port to the external payment provider
+ */
+public interface PaymentProvider {
+    
+    /**
+     * Submits all payouts of a run in one batch.
+     * Payouts are keyed by their idempotency key, so resubmitting a run never pays twice.
+     * @return One receipt per payout
+     */
+    List<PayoutReceipt> submit(PaymentRun paymentRun);
+}
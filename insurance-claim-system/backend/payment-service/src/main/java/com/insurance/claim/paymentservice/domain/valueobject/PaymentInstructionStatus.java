@@ -0,0 +1,8 @@
+package com.insurance.claim.paymentservice.domain.valueobject;
+
+public enum PaymentInstructionStatus {
+    PENDING,
+    SCHEDULED,
+    PAID,
+    RECONCILED
+}
@@ -0,0 +1,10 @@
+package com.insurance.claim.paymentservice.domain.valueobject;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+@Value
+public class PaymentRunId {
+    UUID value;
+}
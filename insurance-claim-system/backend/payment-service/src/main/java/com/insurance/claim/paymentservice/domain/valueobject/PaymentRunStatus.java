@@ -0,0 +1,6 @@
+package com.insurance.claim.paymentservice.domain.valueobject;
+
+public enum PaymentRunStatus {
+    PLANNED,
+    COMPLETED
+}
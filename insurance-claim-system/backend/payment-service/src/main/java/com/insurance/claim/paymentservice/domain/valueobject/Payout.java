@@ -0,0 +1,18 @@
+package com.insurance.claim.paymentservice.domain.valueobject;
+
+import com.insurance.claim.common.domain.valueobjects.Money;
+import lombok.Value;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One transfer to a payee covering all of their approved claims in a currency
+ */
+@Value
+public class Payout {
+    String idempotencyKey;
+    String payeeId;
+    Money amount;
+    List<UUID> claimIds;
+}
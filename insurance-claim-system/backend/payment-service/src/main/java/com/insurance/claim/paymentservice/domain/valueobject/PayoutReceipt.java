@@ -0,0 +1,9 @@
+package com.insurance.claim.paymentservice.domain.valueobject;
+
+import lombok.Value;
+
+@Value
+public class PayoutReceipt {
+    String idempotencyKey;
+    String providerReference;
+}
@@ -0,0 +1,32 @@
+package com.insurance.claim.paymentservice.infrastructure.client;
+
+import com.insurance.claim.paymentservice.application.dto.PaymentConfirmationDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+/**
+ * HTTP adapter for reconciling completed payouts back into the claim service
+ */
+@Component
+public class ClaimServiceClient {
+
+    private final RestClient restClient;
+
+    public ClaimServiceClient(RestClient.Builder restClientBuilder,
+                              @Value("${claim-service.url:http://claim-service}") String baseUrl) {
+        this.restClient = restClientBuilder.baseUrl(baseUrl).build();
+    }
+
+    public void confirmPayments(List<PaymentConfirmationDto> confirmations) {
+        restClient.post()
+                .uri("/claims/payments/confirmations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(confirmations)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
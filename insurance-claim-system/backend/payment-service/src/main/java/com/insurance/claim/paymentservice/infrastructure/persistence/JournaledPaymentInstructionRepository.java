@@ -0,0 +1,120 @@
+package com.insurance.claim.paymentservice.infrastructure.persistence;
+
+import com.insurance.claim.paymentservice.domain.model.PaymentInstruction;
+import com.insurance.claim.paymentservice.domain.repository.PaymentInstructionRepository;
+import com.insurance.claim.paymentservice.domain.valueobject.PaymentInstructionStatus;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Payment instructions held in memory and journaled to disk, so accepted approvals and their
+ * deduplication keys survive a restart. Every change is forced to the journal before it is
+ * applied in memory; evicting reconciled instructions rewrites the journal without them.
+ */
+public class JournaledPaymentInstructionRepository implements PaymentInstructionRepository, Closeable {
+
+    private final Map<String, PaymentInstruction> instructions;
+    private final RecordJournal<PaymentInstruction> journal;
+
+    private JournaledPaymentInstructionRepository(Map<String, PaymentInstruction> instructions,
+                                                  RecordJournal<PaymentInstruction> journal) {
+        this.instructions = instructions;
+        this.journal = journal;
+    }
+
+    public static JournaledPaymentInstructionRepository open(Path file) throws IOException {
+        Map<String, PaymentInstruction> instructions = new ConcurrentHashMap<>();
+        RecordJournal<PaymentInstruction> journal = RecordJournal.open(file, PaymentRecordCodec.INSTRUCTIONS,
+            instruction -> instructions.put(instruction.getId(), instruction));
+        return new JournaledPaymentInstructionRepository(instructions, journal);
+    }
+
+    @Override
+    public synchronized List<PaymentInstruction> saveAllIfAbsent(List<PaymentInstruction> candidates) {
+        Map<String, PaymentInstruction> absent = new LinkedHashMap<>();
+        for (PaymentInstruction instruction : candidates) {
+            if (!instructions.containsKey(instruction.getId())) {
+                absent.putIfAbsent(instruction.getId(), instruction);
+            }
+        }
+        append(absent.values());
+        instructions.putAll(absent);
+        return List.copyOf(absent.values());
+    }
+
+    @Override
+    public PaymentInstruction save(PaymentInstruction instruction) {
+        saveAll(List.of(instruction));
+        return instruction;
+    }
+
+    @Override
+    public synchronized void saveAll(List<PaymentInstruction> updated) {
+        append(updated);
+        for (PaymentInstruction instruction : updated) {
+            instructions.put(instruction.getId(), instruction);
+        }
+    }
+
+    @Override
+    public Optional<PaymentInstruction> findById(String deduplicationKey) {
+        return Optional.ofNullable(instructions.get(deduplicationKey));
+    }
+
+    @Override
+    public List<PaymentInstruction> findByStatus(PaymentInstructionStatus status) {
+        return instructions.values().stream()
+            .filter(instruction -> instruction.getStatus() == status)
+            .toList();
+    }
+
+    @Override
+    public synchronized int deleteReconciledBefore(LocalDateTime cutoff) {
+        List<PaymentInstruction> survivors = new ArrayList<>(instructions.size());
+        List<String> evicted = new ArrayList<>();
+        for (PaymentInstruction instruction : instructions.values()) {
+            if (instruction.getStatus() == PaymentInstructionStatus.RECONCILED
+                    && instruction.getReconciledAt().isBefore(cutoff)) {
+                evicted.add(instruction.getId());
+            } else {
+                survivors.add(instruction);
+            }
+        }
+        if (evicted.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            journal.rewrite(survivors);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not rewrite the payment instruction journal", e);
+        }
+        evicted.forEach(instructions::remove);
+        return evicted.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        journal.close();
+    }
+
+    private void append(Iterable<PaymentInstruction> updated) {
+        List<PaymentInstruction> records = new ArrayList<>();
+        updated.forEach(records::add);
+        try {
+            journal.append(records);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not journal " + records.size() + " payment instructions", e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.insurance.claim.paymentservice.infrastructure.persistence;
+
+import com.insurance.claim.paymentservice.domain.model.PaymentRun;
+import com.insurance.claim.paymentservice.domain.repository.PaymentRunRepository;
+import com.insurance.claim.paymentservice.domain.valueobject.PaymentRunId;
+import com.insurance.claim.paymentservice.domain.valueobject.PaymentRunStatus;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Payment runs held in memory and journaled to disk, so a PLANNED run is still resubmitted with
+ * its original payout keys after a restart. Evicting completed runs rewrites the journal without them.
+ */
+public class JournaledPaymentRunRepository implements PaymentRunRepository, Closeable {
+
+    private final Map<PaymentRunId, PaymentRun> paymentRuns;
+    private final RecordJournal<PaymentRun> journal;
+
+    private JournaledPaymentRunRepository(Map<PaymentRunId, PaymentRun> paymentRuns,
+                                          RecordJournal<PaymentRun> journal) {
+        this.paymentRuns = paymentRuns;
+        this.journal = journal;
+    }
+
+    public static JournaledPaymentRunRepository open(Path file) throws IOException {
+        Map<PaymentRunId, PaymentRun> paymentRuns = new ConcurrentHashMap<>();
+        RecordJournal<PaymentRun> journal = RecordJournal.open(file, PaymentRecordCodec.RUNS,
+            paymentRun -> paymentRuns.put(paymentRun.getId(), paymentRun));
+        return new JournaledPaymentRunRepository(paymentRuns, journal);
+    }
+
+    @Override
+    public synchronized PaymentRun save(PaymentRun paymentRun) {
+        try {
+            journal.append(List.of(paymentRun));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not journal payment run " + paymentRun.getId().getValue(), e);
+        }
+        paymentRuns.put(paymentRun.getId(), paymentRun);
+        return paymentRun;
+    }
+
+    @Override
+    public Optional<PaymentRun> findById(PaymentRunId paymentRunId) {
+        return Optional.ofNullable(paymentRuns.get(paymentRunId));
+    }
+
+    @Override
+    public List<PaymentRun> findByStatus(PaymentRunStatus status) {
+        return paymentRuns.values().stream()
+            .filter(paymentRun -> paymentRun.getStatus() == status)
+            .sorted(Comparator.comparing(PaymentRun::getCreatedAt))
+            .toList();
+    }
+
+    @Override
+    public synchronized int deleteCompletedBefore(LocalDateTime cutoff) {
+        List<PaymentRun> survivors = new ArrayList<>(paymentRuns.size());
+        List<PaymentRunId> evicted = new ArrayList<>();
+        for (PaymentRun paymentRun : paymentRuns.values()) {
+            if (paymentRun.getStatus() == PaymentRunStatus.COMPLETED && paymentRun.getCompletedAt().isBefore(cutoff)) {
+                evicted.add(paymentRun.getId());
+            } else {
+                survivors.add(paymentRun);
+            }
+        }
+        if (evicted.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            journal.rewrite(survivors);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not rewrite the payment run journal", e);
+        }
+        evicted.forEach(paymentRuns::remove);
+        return evicted.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        journal.close();
+    }
+}
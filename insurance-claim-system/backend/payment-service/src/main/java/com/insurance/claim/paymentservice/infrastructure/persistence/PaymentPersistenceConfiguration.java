@@ -0,0 +1,24 @@
+package com.insurance.claim.paymentservice.infrastructure.persistence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class PaymentPersistenceConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public JournaledPaymentInstructionRepository paymentInstructionRepository(
+            @Value("${payment.journal.directory:data/payment-journal}") Path directory) throws IOException {
+        return JournaledPaymentInstructionRepository.open(directory.resolve("instructions.journal"));
+    }
+
+    @Bean(destroyMethod = "close")
+    public JournaledPaymentRunRepository paymentRunRepository(
+            @Value("${payment.journal.directory:data/payment-journal}") Path directory) throws IOException {
+        return JournaledPaymentRunRepository.open(directory.resolve("runs.journal"));
+    }
+}
@@ -0,0 +1,159 @@
+package com.insurance.claim.paymentservice.infrastructure.persistence;
+
+import com.insurance.claim.common.domain.valueobjects.Currency;
+import com.insurance.claim.common.domain.valueobjects.Money;
+import com.insurance.claim.paymentservice.domain.model.PaymentInstruction;
+import com.insurance.claim.paymentservice.domain.model.PaymentRun;
+import com.insurance.claim.paymentservice.domain.valueobject.PaymentInstructionStatus;
+import com.insurance.claim.paymentservice.domain.valueobject.PaymentRunId;
+import com.insurance.claim.paymentservice.domain.valueobject.PaymentRunStatus;
+import com.insurance.claim.paymentservice.domain.valueobject.Payout;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Binary record formats for journaled payment instructions and payment runs
+ */
+final class PaymentRecordCodec {
+
+    static final RecordJournal.Codec<PaymentInstruction> INSTRUCTIONS = new RecordJournal.Codec<>() {
+        @Override
+        public void write(DataOutput out, PaymentInstruction instruction) throws IOException {
+            writeUuid(out, instruction.getClaimId());
+            writeString(out, instruction.getClaimNumber());
+            writeString(out, instruction.getPayeeId());
+            writeMoney(out, instruction.getAmount());
+            writeDateTime(out, instruction.getReceivedAt());
+            out.writeUTF(instruction.getStatus().name());
+            out.writeBoolean(instruction.getPaymentRunId() != null);
+            if (instruction.getPaymentRunId() != null) {
+                writeUuid(out, instruction.getPaymentRunId().getValue());
+            }
+            writeString(out, instruction.getPaymentReference());
+            writeDateTime(out, instruction.getReconciledAt());
+        }
+
+        @Override
+        public PaymentInstruction read(DataInput in) throws IOException {
+            UUID claimId = readUuid(in);
+            String claimNumber = readString(in);
+            String payeeId = readString(in);
+            Money amount = readMoney(in);
+            LocalDateTime receivedAt = readDateTime(in);
+            PaymentInstructionStatus status = PaymentInstructionStatus.valueOf(in.readUTF());
+            PaymentRunId paymentRunId = in.readBoolean() ? new PaymentRunId(readUuid(in)) : null;
+            String paymentReference = readString(in);
+            LocalDateTime reconciledAt = readDateTime(in);
+
+            return PaymentInstruction.reconstitute(claimId, claimNumber, payeeId, amount, receivedAt, status,
+                paymentRunId, paymentReference, reconciledAt);
+        }
+    };
+
+    static final RecordJournal.Codec<PaymentRun> RUNS = new RecordJournal.Codec<>() {
+        @Override
+        public void write(DataOutput out, PaymentRun paymentRun) throws IOException {
+            writeUuid(out, paymentRun.getId().getValue());
+            writeDateTime(out, paymentRun.getCreatedAt());
+            out.writeUTF(paymentRun.getStatus().name());
+            writeDateTime(out, paymentRun.getCompletedAt());
+
+            List<Payout> payouts = paymentRun.getPayouts();
+            out.writeInt(payouts.size());
+            for (Payout payout : payouts) {
+                writeString(out, payout.getIdempotencyKey());
+                writeString(out, payout.getPayeeId());
+                writeMoney(out, payout.getAmount());
+                out.writeInt(payout.getClaimIds().size());
+                for (UUID claimId : payout.getClaimIds()) {
+                    writeUuid(out, claimId);
+                }
+            }
+        }
+
+        @Override
+        public PaymentRun read(DataInput in) throws IOException {
+            PaymentRunId id = new PaymentRunId(readUuid(in));
+            LocalDateTime createdAt = readDateTime(in);
+            PaymentRunStatus status = PaymentRunStatus.valueOf(in.readUTF());
+            LocalDateTime completedAt = readDateTime(in);
+
+            int payoutCount = in.readInt();
+            List<Payout> payouts = new ArrayList<>(payoutCount);
+            for (int i = 0; i < payoutCount; i++) {
+                String idempotencyKey = readString(in);
+                String payeeId = readString(in);
+                Money amount = readMoney(in);
+                int claimCount = in.readInt();
+                List<UUID> claimIds = new ArrayList<>(claimCount);
+                for (int j = 0; j < claimCount; j++) {
+                    claimIds.add(readUuid(in));
+                }
+                payouts.add(new Payout(idempotencyKey, payeeId, amount, List.copyOf(claimIds)));
+            }
+
+            return PaymentRun.reconstitute(id, createdAt, payouts, status, completedAt);
+        }
+    };
+
+    private PaymentRecordCodec() {
+    }
+
+    private static void writeUuid(DataOutput out, UUID value) throws IOException {
+        out.writeLong(value.getMostSignificantBits());
+        out.writeLong(value.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInput in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    /**
+     * Writes a string as its UTF-8 byte length, or -1 for null, followed by the bytes
+     */
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDateTime(DataOutput out, LocalDateTime value) throws IOException {
+        writeString(out, value != null ? value.toString() : null);
+    }
+
+    private static LocalDateTime readDateTime(DataInput in) throws IOException {
+        String value = readString(in);
+        return value != null ? LocalDateTime.parse(value) : null;
+    }
+
+    private static void writeMoney(DataOutput out, Money value) throws IOException {
+        out.writeUTF(value.getAmount().toPlainString());
+        out.writeUTF(value.getCurrency().name());
+    }
+
+    private static Money readMoney(DataInput in) throws IOException {
+        return Money.of(new BigDecimal(in.readUTF()), Currency.valueOf(in.readUTF()));
+    }
+}
@@ -0,0 +1,176 @@
+package com.insurance.claim.paymentservice.infrastructure.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only file of records that is replayed on open; a later record for the same entity
+ * supersedes an earlier one. Appends are forced to disk before they return. Each record is framed
+ * by its length and a CRC32, so a record torn by a crash is detected and cut off on the next open.
+ * Removed entities are dropped by {@link #rewrite(Collection)}, which atomically replaces the file.
+ */
+final class RecordJournal<T> implements Closeable {
+
+    private static final int HEADER_SIZE = 8;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    interface Codec<T> {
+        void write(DataOutput out, T value) throws IOException;
+
+        T read(DataInput in) throws IOException;
+    }
+
+    private final Path file;
+    private final Codec<T> codec;
+    private FileChannel channel;
+
+    private RecordJournal(Path file, Codec<T> codec, FileChannel channel) {
+        this.file = file;
+        this.codec = codec;
+        this.channel = channel;
+    }
+
+    /**
+     * Opens or creates the journal, passing every intact record to {@code replay} in write order
+     */
+    static <T> RecordJournal<T> open(Path file, Codec<T> codec, Consumer<T> replay) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        // Left behind by an interrupted rewrite; the journal itself is still complete
+        Files.deleteIfExists(tempFile(file));
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        try {
+            long validLength = replay(channel, codec, replay);
+            if (validLength < channel.size()) {
+                channel.truncate(validLength);
+                channel.force(true);
+            }
+            channel.position(validLength);
+            return new RecordJournal<>(file, codec, channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    synchronized void append(Collection<? extends T> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        writeRecords(channel, records);
+        channel.force(false);
+    }
+
+    /**
+     * Replaces the journal with one holding only {@code records}
+     */
+    synchronized void rewrite(Collection<? extends T> records) throws IOException {
+        Path temp = tempFile(file);
+        try (FileChannel written = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeRecords(written, records);
+            written.force(true);
+        }
+
+        channel.close();
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private void writeRecords(FileChannel target, Collection<? extends T> records) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(WRITE_BUFFER_SIZE);
+        DataOutputStream out = new DataOutputStream(buffer);
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        CRC32 crc = new CRC32();
+
+        for (T record : records) {
+            payload.reset();
+            codec.write(new DataOutputStream(payload), record);
+            byte[] bytes = payload.toByteArray();
+            crc.reset();
+            crc.update(bytes);
+
+            out.writeInt(bytes.length);
+            out.writeInt((int) crc.getValue());
+            out.write(bytes);
+            if (buffer.size() >= WRITE_BUFFER_SIZE) {
+                writeFully(target, buffer);
+            }
+        }
+        writeFully(target, buffer);
+    }
+
+    private static void writeFully(FileChannel target, ByteArrayOutputStream buffer) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+        while (bytes.hasRemaining()) {
+            target.write(bytes);
+        }
+        buffer.reset();
+    }
+
+    /**
+     * @return The length of the intact prefix of the journal
+     */
+    private static <T> long replay(FileChannel channel, Codec<T> codec, Consumer<T> replay) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        CRC32 crc = new CRC32();
+
+        while (position + HEADER_SIZE <= size) {
+            header.clear();
+            readFully(channel, header, position);
+            int length = header.getInt(0);
+            int checksum = header.getInt(4);
+            if (length < 0 || position + HEADER_SIZE + length > size) {
+                break;
+            }
+
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(channel, payload, position + HEADER_SIZE);
+            crc.reset();
+            crc.update(payload.array());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+
+            replay.accept(codec.read(new DataInputStream(new ByteArrayInputStream(payload.array()))));
+            position += HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            if (channel.read(target, position + target.position()) < 0) {
+                throw new IOException("Unexpected end of journal");
+            }
+        }
+    }
+
+    private static Path tempFile(Path file) {
+        return file.resolveSibling(file.getFileName() + ".tmp");
+    }
+}
@@ -0,0 +1,38 @@
+package com.insurance.claim.paymentservice.infrastructure.provider;
+
+import com.insurance.claim.paymentservice.domain.model.PaymentRun;
+import com.insurance.claim.paymentservice.domain.service.PaymentProvider;
+import com.insurance.claim.paymentservice.domain.valueobject.Payout;
+import com.insurance.claim.paymentservice.domain.valueobject.PayoutReceipt;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local stand-in for the payment provider. Settles every payout immediately and
+ * hands back the same reference when a payout is resubmitted under the same idempotency key.
+ */
+@Slf4j
+@Component
+public class LocalPaymentProvider implements PaymentProvider {
+
+    private final Map<String, String> settledPayouts = new ConcurrentHashMap<>();
+
+    @Override
+    public List<PayoutReceipt> submit(PaymentRun paymentRun) {
+        log.info("Settling payment run {} with {} payouts", paymentRun.getId().getValue(), paymentRun.getPayouts().size());
+        return paymentRun.getPayouts().stream()
+            .map(this::settle)
+            .toList();
+    }
+
+    private PayoutReceipt settle(Payout payout) {
+        String reference = settledPayouts.computeIfAbsent(payout.getIdempotencyKey(),
+            key -> "PAY-" + UUID.randomUUID());
+        return new PayoutReceipt(payout.getIdempotencyKey(), reference);
+    }
+}
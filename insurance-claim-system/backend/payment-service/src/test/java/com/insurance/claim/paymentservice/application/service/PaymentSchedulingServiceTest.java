@@ -0,0 +1,218 @@
+package com.insurance.claim.paymentservice.application.service;
+
+import com.insurance.claim.paymentservice.application.dto.ClaimApprovalDto;
+import com.insurance.claim.paymentservice.application.dto.PaymentConfirmationDto;
+import com.insurance.claim.paymentservice.domain.model.PaymentInstruction;
+import com.insurance.claim.paymentservice.domain.model.PaymentRun;
+import com.insurance.claim.paymentservice.domain.service.PaymentProvider;
+import com.insurance.claim.paymentservice.domain.valueobject.PaymentInstructionStatus;
+import com.insurance.claim.paymentservice.domain.valueobject.PaymentRunStatus;
+import com.insurance.claim.paymentservice.domain.valueobject.Payout;
+import com.insurance.claim.paymentservice.domain.valueobject.PayoutReceipt;
+import com.insurance.claim.paymentservice.infrastructure.client.ClaimServiceClient;
+import com.insurance.claim.paymentservice.infrastructure.persistence.JournaledPaymentInstructionRepository;
+import com.insurance.claim.paymentservice.infrastructure.persistence.JournaledPaymentRunRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PaymentSchedulingServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private final RecordingProvider provider = new RecordingProvider();
+    private final RecordingClaimServiceClient claimServiceClient = new RecordingClaimServiceClient();
+    private JournaledPaymentInstructionRepository instructions;
+    private JournaledPaymentRunRepository runs;
+    private PaymentSchedulingService service;
+
+    @BeforeEach
+    void open() throws IOException {
+        instructions = JournaledPaymentInstructionRepository.open(directory.resolve("instructions.journal"));
+        runs = JournaledPaymentRunRepository.open(directory.resolve("runs.journal"));
+        service = new PaymentSchedulingService(instructions, runs, provider, claimServiceClient, Duration.ofDays(7));
+    }
+
+    @AfterEach
+    void close() throws IOException {
+        instructions.close();
+        runs.close();
+    }
+
+    @Test
+    void redeliveredApprovalsAreAcceptedOnce() throws IOException {
+        ClaimApprovalDto approval = approval(UUID.randomUUID(), "holder-a", "100.00");
+
+        assertEquals(1, service.acceptApprovals(List.of(approval, approval)));
+        assertEquals(0, service.acceptApprovals(List.of(approval)));
+
+        reopen();
+        assertEquals(0, service.acceptApprovals(List.of(approval)));
+        assertEquals(1, instructions.findByStatus(PaymentInstructionStatus.PENDING).size());
+    }
+
+    @Test
+    void unfinishedRunIsResubmittedWithItsOriginalPayoutKeysAfterARestart() throws IOException {
+        service.acceptApprovals(List.of(
+            approval(UUID.randomUUID(), "holder-a", "100.00"),
+            approval(UUID.randomUUID(), "holder-a", "50.00"),
+            approval(UUID.randomUUID(), "holder-b", "75.00")));
+        provider.failuresLeft = 1;
+
+        service.executePaymentRun();
+
+        assertEquals(1, runs.findByStatus(PaymentRunStatus.PLANNED).size());
+        List<String> firstKeys = provider.submittedKeys.get(0);
+        assertEquals(2, firstKeys.size());
+
+        reopen();
+        service.executePaymentRun();
+
+        assertEquals(2, provider.submittedKeys.size());
+        assertEquals(firstKeys, provider.submittedKeys.get(1));
+        assertTrue(runs.findByStatus(PaymentRunStatus.PLANNED).isEmpty());
+        assertEquals(3, instructions.findByStatus(PaymentInstructionStatus.PAID).size());
+    }
+
+    @Test
+    void runIsRetriedUntilEveryPayoutHasAReceipt() {
+        service.acceptApprovals(List.of(
+            approval(UUID.randomUUID(), "holder-a", "100.00"),
+            approval(UUID.randomUUID(), "holder-b", "75.00")));
+        provider.receiptsLeft = 1;
+
+        service.executePaymentCycle();
+
+        assertEquals(2, instructions.findByStatus(PaymentInstructionStatus.SCHEDULED).size());
+        assertTrue(claimServiceClient.confirmed.isEmpty());
+
+        service.executePaymentCycle();
+
+        assertEquals(provider.submittedKeys.get(0), provider.submittedKeys.get(1));
+        assertEquals(2, instructions.findByStatus(PaymentInstructionStatus.RECONCILED).size());
+        assertEquals(2, claimServiceClient.confirmed.get(0).size());
+    }
+
+    @Test
+    void failedReconciliationIsRetriedOnTheNextCycle() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        service.acceptApprovals(List.of(approval(first, "holder-a", "100.00")));
+        claimServiceClient.failuresLeft = 1;
+
+        service.executePaymentCycle();
+
+        assertEquals(1, instructions.findByStatus(PaymentInstructionStatus.PAID).size());
+
+        service.acceptApprovals(List.of(approval(second, "holder-a", "20.00")));
+        service.executePaymentCycle();
+
+        assertEquals(1, claimServiceClient.confirmed.size());
+        assertEquals(Set.of(first, second), Set.copyOf(claimServiceClient.confirmed.get(0)));
+        assertEquals(2, instructions.findByStatus(PaymentInstructionStatus.RECONCILED).size());
+    }
+
+    @Test
+    void pendingInstructionsOfAStoredRunArePaidWhenItIsResubmitted() throws IOException {
+        UUID claimId = UUID.randomUUID();
+        service.acceptApprovals(List.of(approval(claimId, "holder-a", "100.00")));
+        // Stopped after the run was stored but before its instructions were marked SCHEDULED
+        runs.save(PaymentRun.plan(instructions.findByStatus(PaymentInstructionStatus.PENDING)));
+
+        reopen();
+        service.executePaymentRun();
+
+        assertEquals(PaymentInstructionStatus.PAID,
+            instructions.findById(PaymentInstruction.deduplicationKey(claimId)).orElseThrow().getStatus());
+        assertEquals(1, provider.submittedKeys.size());
+    }
+
+    @Test
+    void evictsReconciledInstructionsAndCompletedRunsPastRetention() throws IOException {
+        service.acceptApprovals(List.of(approval(UUID.randomUUID(), "holder-a", "100.00")));
+        service.executePaymentCycle();
+        service.acceptApprovals(List.of(approval(UUID.randomUUID(), "holder-b", "10.00")));
+
+        // A negative retention moves the cutoff past everything settled so far
+        new PaymentSchedulingService(instructions, runs, provider, claimServiceClient, Duration.ofDays(-1))
+            .evictSettledRecords();
+
+        reopen();
+        assertTrue(instructions.findByStatus(PaymentInstructionStatus.RECONCILED).isEmpty());
+        assertTrue(runs.findByStatus(PaymentRunStatus.COMPLETED).isEmpty());
+        assertEquals(1, instructions.findByStatus(PaymentInstructionStatus.PENDING).size());
+    }
+
+    private void reopen() throws IOException {
+        close();
+        open();
+    }
+
+    private static ClaimApprovalDto approval(UUID claimId, String payeeId, String amount) {
+        return ClaimApprovalDto.builder()
+            .claimId(claimId)
+            .claimNumber("CLM-" + claimId)
+            .payeeId(payeeId)
+            .amount(new BigDecimal(amount))
+            .currency("EUR")
+            .build();
+    }
+
+    /**
+     * Fails the first {@code failuresLeft} submissions and withholds receipts beyond {@code receiptsLeft}
+     */
+    private static class RecordingProvider implements PaymentProvider {
+        private final List<List<String>> submittedKeys = new ArrayList<>();
+        private int failuresLeft;
+        private int receiptsLeft = Integer.MAX_VALUE;
+
+        @Override
+        public List<PayoutReceipt> submit(PaymentRun paymentRun) {
+            submittedKeys.add(paymentRun.getPayouts().stream().map(Payout::getIdempotencyKey).toList());
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IllegalStateException("Provider unavailable");
+            }
+            List<PayoutReceipt> receipts = paymentRun.getPayouts().stream()
+                .limit(receiptsLeft)
+                .map(payout -> new PayoutReceipt(payout.getIdempotencyKey(), "PAY-" + payout.getIdempotencyKey()))
+                .toList();
+            receiptsLeft = Integer.MAX_VALUE;
+            return receipts;
+        }
+    }
+
+    private static class RecordingClaimServiceClient extends ClaimServiceClient {
+        private final List<List<UUID>> confirmed = new ArrayList<>();
+        private int failuresLeft;
+
+        RecordingClaimServiceClient() {
+            super(RestClient.builder(), "http://claim-service");
+        }
+
+        @Override
+        public void confirmPayments(List<PaymentConfirmationDto> confirmations) {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new RestClientException("Claim service unavailable");
+            }
+            confirmed.add(confirmations.stream().map(PaymentConfirmationDto::getClaimId).toList());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.insurance.claim.paymentservice.infrastructure.persistence;
+
+import com.insurance.claim.common.domain.valueobjects.Currency;
+import com.insurance.claim.common.domain.valueobjects.Money;
+import com.insurance.claim.paymentservice.domain.model.PaymentInstruction;
+import com.insurance.claim.paymentservice.domain.valueobject.PaymentInstructionStatus;
+import com.insurance.claim.paymentservice.domain.valueobject.PaymentRunId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournaledPaymentInstructionRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysTheLatestStateOfEveryInstruction() throws IOException {
+        Path file = directory.resolve("instructions.journal");
+        PaymentInstruction paid = instruction();
+        PaymentInstruction pending = instruction();
+
+        try (JournaledPaymentInstructionRepository repository = JournaledPaymentInstructionRepository.open(file)) {
+            assertEquals(2, repository.saveAllIfAbsent(List.of(paid, pending)).size());
+            paid.scheduleIn(new PaymentRunId(UUID.randomUUID()));
+            paid.markPaid("PAY-1");
+            repository.save(paid);
+        }
+
+        try (JournaledPaymentInstructionRepository reopened = JournaledPaymentInstructionRepository.open(file)) {
+            PaymentInstruction replayed = reopened.findById(paid.getId()).orElseThrow();
+            assertEquals(PaymentInstructionStatus.PAID, replayed.getStatus());
+            assertEquals("PAY-1", replayed.getPaymentReference());
+            assertEquals(paid.getPaymentRunId(), replayed.getPaymentRunId());
+            assertEquals(paid.getAmount(), replayed.getAmount());
+            assertEquals(paid.getReceivedAt(), replayed.getReceivedAt());
+            assertEquals(List.of(pending.getId()),
+                reopened.findByStatus(PaymentInstructionStatus.PENDING).stream().map(PaymentInstruction::getId).toList());
+        }
+    }
+
+    @Test
+    void dropsATornRecordAndKeepsAppending() throws IOException {
+        Path file = directory.resolve("instructions.journal");
+        PaymentInstruction kept = instruction();
+        PaymentInstruction torn = instruction();
+
+        try (JournaledPaymentInstructionRepository repository = JournaledPaymentInstructionRepository.open(file)) {
+            repository.saveAllIfAbsent(List.of(kept));
+        }
+        long intactLength = Files.size(file);
+        try (JournaledPaymentInstructionRepository repository = JournaledPaymentInstructionRepository.open(file)) {
+            repository.saveAllIfAbsent(List.of(torn));
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 3);
+        }
+
+        PaymentInstruction later = instruction();
+        try (JournaledPaymentInstructionRepository repository = JournaledPaymentInstructionRepository.open(file)) {
+            assertTrue(repository.findById(kept.getId()).isPresent());
+            assertFalse(repository.findById(torn.getId()).isPresent());
+            assertEquals(intactLength, Files.size(file));
+            repository.saveAllIfAbsent(List.of(later));
+        }
+
+        try (JournaledPaymentInstructionRepository reopened = JournaledPaymentInstructionRepository.open(file)) {
+            assertTrue(reopened.findById(kept.getId()).isPresent());
+            assertTrue(reopened.findById(later.getId()).isPresent());
+        }
+    }
+
+    @Test
+    void evictsOnlyInstructionsReconciledBeforeTheCutoff() throws IOException {
+        Path file = directory.resolve("instructions.journal");
+        PaymentInstruction reconciled = instruction();
+        PaymentInstruction paid = instruction();
+
+        try (JournaledPaymentInstructionRepository repository = JournaledPaymentInstructionRepository.open(file)) {
+            repository.saveAllIfAbsent(List.of(reconciled, paid));
+            for (PaymentInstruction instruction : List.of(reconciled, paid)) {
+                instruction.scheduleIn(new PaymentRunId(UUID.randomUUID()));
+                instruction.markPaid("PAY-" + instruction.getClaimId());
+            }
+            reconciled.markReconciled();
+            repository.saveAll(List.of(reconciled, paid));
+
+            assertEquals(0, repository.deleteReconciledBefore(reconciled.getReconciledAt().minusDays(1)));
+            assertEquals(1, repository.deleteReconciledBefore(LocalDateTime.now().plusDays(1)));
+            assertFalse(repository.findById(reconciled.getId()).isPresent());
+        }
+
+        try (JournaledPaymentInstructionRepository reopened = JournaledPaymentInstructionRepository.open(file)) {
+            assertFalse(reopened.findById(reconciled.getId()).isPresent());
+            assertEquals(PaymentInstructionStatus.PAID, reopened.findById(paid.getId()).orElseThrow().getStatus());
+            // A redelivered approval for a paid claim is still recognised after the rewrite
+            assertTrue(reopened.saveAllIfAbsent(List.of(PaymentInstruction.forApprovedClaim(paid.getClaimId(),
+                paid.getClaimNumber(), paid.getPayeeId(), paid.getAmount()))).isEmpty());
+        }
+    }
+
+    private static PaymentInstruction instruction() {
+        UUID claimId = UUID.randomUUID();
+        return PaymentInstruction.forApprovedClaim(claimId, "CLM-" + claimId, "holder-a",
+            Money.of(new BigDecimal("123.45"), Currency.EUR));
+    }
+}
@@ -0,0 +1,145 @@
+package com.insurance.claim.loadtest;
+
+import com.insurance.claim.claimservice.application.dto.ClaimResponseDto;
+import com.insurance.claim.claimservice.application.dto.CreateClaimDto;
+import com.insurance.claim.claimservice.application.dto.DocumentDto;
+import com.insurance.claim.claimservice.application.service.ClaimApplicationService;
+import com.insurance.claim.claimservice.domain.valueobject.DocumentType;
+import com.insurance.claim.common.domain.valueobjects.Currency;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Executes single workload operations with realistic data against the claim service:
+ * commands go through {@link ClaimApplicationService}, status polling through the REST API.
+ */
+public class ClaimWorkload {
+
+    private static final int RECENT_CLAIMS = 10_000;
+    private static final DocumentType[] DOCUMENT_TYPES = DocumentType.values();
+
+    private final ClaimApplicationService claimApplicationService;
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final int policyHolders;
+
+    private final Queue<UUID> awaitingAdjuster = new ConcurrentLinkedQueue<>();
+    private final AtomicReferenceArray<UUID> recentClaims = new AtomicReferenceArray<>(RECENT_CLAIMS);
+    private final AtomicLong submittedClaims = new AtomicLong();
+
+    public ClaimWorkload(ClaimApplicationService claimApplicationService, URI baseUri, int policyHolders) {
+        this.claimApplicationService = claimApplicationService;
+        this.baseUri = baseUri;
+        this.policyHolders = policyHolders;
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    }
+
+    /**
+     * @return false if the operation had nothing to work on and was skipped
+     */
+    public boolean execute(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case SUBMIT_CLAIM -> submitClaim();
+            case POLL_CLAIMS -> pollClaims();
+            case ADJUSTER_TRANSITION -> adjusterTransition();
+            case ATTACH_DOCUMENT -> attachDocument();
+        };
+    }
+
+    private boolean submitClaim() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate today = LocalDate.now();
+
+        CreateClaimDto createClaimDto = CreateClaimDto.builder()
+            .policyHolderId(randomPolicyHolder())
+            .incidentDate(LocalDateTime.now().minusDays(random.nextInt(1, 30)))
+            .incidentDescription("Storm damage to roof and windows, reported during load run")
+            .policyNumber(String.format("POL-%010d", random.nextInt(1_000_000_000)))
+            .policyType("HOME")
+            .policyStartDate(today.minusYears(1))
+            .policyEndDate(today.plusYears(1))
+            .coverageLimit(BigDecimal.valueOf(50_000))
+            .coverageCurrency(Currency.USD)
+            .deductibleAmount(BigDecimal.valueOf(500))
+            .deductibleCurrency(Currency.USD)
+            .claimAmount(BigDecimal.valueOf(random.nextInt(100, 20_000)))
+            .claimCurrency(Currency.USD)
+            .build();
+
+        ClaimResponseDto claim = claimApplicationService.createClaim(createClaimDto);
+        awaitingAdjuster.add(claim.getId());
+        recentClaims.set((int) (submittedClaims.getAndIncrement() % RECENT_CLAIMS), claim.getId());
+        return true;
+    }
+
+    private boolean pollClaims() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(baseUri.resolve("/customers/" + randomPolicyHolder() + "/claims?fields=id,claimNumber,status"))
+            .header("Accept", "application/json")
+            .timeout(Duration.ofSeconds(30))
+            .GET()
+            .build();
+
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Claim polling returned HTTP " + response.statusCode());
+        }
+        return true;
+    }
+
+    private boolean adjusterTransition() {
+        UUID claimId = awaitingAdjuster.poll();
+        if (claimId == null) {
+            return false;
+        }
+
+        ClaimResponseDto processed = claimApplicationService.processClaim(claimId);
+        if (ThreadLocalRandom.current().nextInt(10) < 8) {
+            claimApplicationService.approveClaim(claimId, processed.getClaimAmount());
+        } else {
+            claimApplicationService.rejectClaim(claimId, "Damage not covered by policy terms");
+        }
+        return true;
+    }
+
+    private boolean attachDocument() {
+        long submitted = submittedClaims.get();
+        if (submitted == 0) {
+            return false;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UUID claimId = recentClaims.get((int) (random.nextLong(Math.min(submitted, RECENT_CLAIMS))));
+        if (claimId == null) {
+            return false;
+        }
+
+        DocumentDto documentDto = DocumentDto.builder()
+            .fileName("evidence-" + random.nextInt(1_000_000) + ".jpg")
+            .contentType("image/jpeg")
+            .documentType(DOCUMENT_TYPES[random.nextInt(DOCUMENT_TYPES.length)])
+            .uploadedBy("load-test")
+            .build();
+        claimApplicationService.addDocumentToClaim(claimId, documentDto, "loadtest://documents/" + UUID.randomUUID());
+        return true;
+    }
+
+    private String randomPolicyHolder() {
+        return String.format("PH-%05d", ThreadLocalRandom.current().nextInt(policyHolders));
+    }
+}
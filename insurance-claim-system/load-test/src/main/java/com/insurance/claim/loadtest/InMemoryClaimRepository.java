@@ -0,0 +1,93 @@
+package com.insurance.claim.loadtest;
+
+import com.insurance.claim.claimservice.domain.model.Claim;
+import com.insurance.claim.claimservice.domain.repository.ClaimRepository;
+import com.insurance.claim.claimservice.domain.valueobject.ClaimId;
+import com.insurance.claim.claimservice.domain.valueobject.ClaimStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hot claim store for load runs. Stores and hands out copies so concurrent operations on
+ * the same claim behave like separate database reads instead of sharing one mutable aggregate.
+ * Claim number and policy holder lookups go through secondary indexes, like the columns they
+ * stand in for, so their cost does not grow with the number of stored claims.
+ */
+public class InMemoryClaimRepository implements ClaimRepository {
+
+    private final Map<ClaimId, Claim> claims = new ConcurrentHashMap<>();
+    private final Map<String, ClaimId> byClaimNumber = new ConcurrentHashMap<>();
+    private final Map<String, Set<ClaimId>> byPolicyHolder = new ConcurrentHashMap<>();
+
+    @Override
+    public Claim save(Claim claim) {
+        // Indexes are updated inside compute so a concurrent delete of the same claim can't interleave
+        claims.compute(claim.getId(), (id, existing) -> {
+            byClaimNumber.put(claim.getClaimNumber(), id);
+            byPolicyHolder.computeIfAbsent(claim.getPolicyHolderId(), holder -> ConcurrentHashMap.newKeySet())
+                .add(id);
+            return copy(claim);
+        });
+        return claim;
+    }
+
+    @Override
+    public Optional<Claim> findById(ClaimId claimId) {
+        return Optional.ofNullable(claims.get(claimId)).map(InMemoryClaimRepository::copy);
+    }
+
+    @Override
+    public Optional<Claim> findByClaimNumber(String claimNumber) {
+        return Optional.ofNullable(byClaimNumber.get(claimNumber))
+            .flatMap(this::findById);
+    }
+
+    @Override
+    public List<Claim> findByPolicyHolderId(String policyHolderId) {
+        return byPolicyHolder.getOrDefault(policyHolderId, Set.of()).stream()
+            .map(claims::get)
+            .filter(Objects::nonNull)
+            .map(InMemoryClaimRepository::copy)
+            .toList();
+    }
+
+    @Override
+    public List<Claim> findByStatus(ClaimStatus status) {
+        return claims.values().stream()
+            .filter(claim -> claim.getStatus() == status)
+            .map(InMemoryClaimRepository::copy)
+            .toList();
+    }
+
+    @Override
+    public List<Claim> findAll() {
+        return claims.values().stream()
+            .map(InMemoryClaimRepository::copy)
+            .toList();
+    }
+
+    @Override
+    public void deleteById(ClaimId claimId) {
+        claims.computeIfPresent(claimId, (id, claim) -> {
+            byClaimNumber.remove(claim.getClaimNumber(), id);
+            Set<ClaimId> policyHolderClaims = byPolicyHolder.get(claim.getPolicyHolderId());
+            if (policyHolderClaims != null) {
+                policyHolderClaims.remove(id);
+            }
+            return null;
+        });
+    }
+
+    private static Claim copy(Claim claim) {
+        return Claim.reconstitute(claim.getId(), claim.getClaimNumber(), claim.getPolicyHolderId(),
+            claim.getIncidentDate(), claim.getIncidentDescription(), claim.getPolicyDetails(),
+            claim.getClaimAmount(), claim.getStatus(), claim.getDocuments(), claim.getRejectionReason(),
+            claim.getSubmissionDate(), claim.getProcessingDate(), claim.getPaymentReference(),
+            claim.getPaymentDate(), claim.getClosedDate());
+    }
+}
@@ -0,0 +1,67 @@
+package com.insurance.claim.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-operation latency histograms and outcome counters.
+ * Latencies are recorded in microseconds from each operation's intended start time.
+ */
+public class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> shed = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+
+    public LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            shed.put(operation, new AtomicLong());
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    public void recordSuccess(Operation operation, long latencyNanos) {
+        long micros = Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        histograms.get(operation).recordValue(micros);
+    }
+
+    public void recordShed(Operation operation) {
+        shed.get(operation).incrementAndGet();
+    }
+
+    public void recordError(Operation operation) {
+        errors.get(operation).incrementAndGet();
+    }
+
+    /**
+     * Discards everything recorded so far, used at the end of warmup
+     */
+    public void reset() {
+        for (Operation operation : Operation.values()) {
+            histograms.get(operation).reset();
+            shed.get(operation).set(0);
+            errors.get(operation).set(0);
+        }
+    }
+
+    public Histogram getHistogram(Operation operation) {
+        return histograms.get(operation);
+    }
+
+    public long getShed(Operation operation) {
+        return shed.get(operation).get();
+    }
+
+    public long getErrors(Operation operation) {
+        return errors.get(operation).get();
+    }
+}
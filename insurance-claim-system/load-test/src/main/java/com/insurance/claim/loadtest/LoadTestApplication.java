@@ -0,0 +1,48 @@
+package com.insurance.claim.loadtest;
+
+import com.insurance.claim.claimservice.ClaimServiceApplication;
+import com.insurance.claim.claimservice.application.service.ClaimApplicationService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Boots the claim service in-process against an embedded database, drives it with the configured
+ * workload and exits non-zero when a latency SLO, the error budget or the shed budget is missed.
+ * <p>
+ * Run with {@code mvn -pl load-test -am spring-boot:run}; override any {@code loadtest.*}
+ * property on the command line, e.g. {@code --loadtest.duration=PT2H} for a soak test.
+ */
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws IOException {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                ClaimServiceApplication.class, LoadTestConfiguration.class)
+            .profiles("loadtest")
+            .run(args);
+
+        boolean passed;
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadTestProperties properties = context.getBean(LoadTestProperties.class);
+            ClaimWorkload workload = new ClaimWorkload(context.getBean(ClaimApplicationService.class),
+                URI.create("http://localhost:" + port), properties.getPolicyHolders());
+
+            LatencyRecorder recorder = new LoadTestRunner(workload, properties).run();
+
+            LoadTestReport report = new LoadTestReport(recorder, properties);
+            report.print(System.out);
+            if (properties.getReportDirectory() != null) {
+                report.writeDistributions(properties.getReportDirectory());
+            }
+            passed = report.isPassed();
+        } finally {
+            SpringApplication.exit(context);
+        }
+        System.exit(passed ? 0 : 1);
+    }
+}
@@ -0,0 +1,42 @@
+package com.insurance.claim.loadtest;
+
+import com.insurance.claim.claimservice.application.dto.ClaimApprovalDto;
+import com.insurance.claim.claimservice.domain.repository.ClaimRepository;
+import com.insurance.claim.claimservice.infrastructure.payment.PaymentServiceClient;
+import com.insurance.claim.claimservice.infrastructure.persistence.TieredClaimRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Wiring that makes the claim service runnable on its own for load runs
+ */
+@Configuration
+@EnableConfigurationProperties(LoadTestProperties.class)
+public class LoadTestConfiguration {
+
+    @Bean(TieredClaimRepository.HOT_STORE)
+    public ClaimRepository hotClaimRepository() {
+        return new InMemoryClaimRepository();
+    }
+
+    /**
+     * Takes precedence over the HTTP handoff so approvals don't depend on a running payment service
+     */
+    @Bean
+    @Primary
+    public PaymentServiceClient inProcessPaymentServiceClient() {
+        return new PaymentServiceClient(RestClient.builder(), "http://localhost",
+                Duration.ofSeconds(1), Duration.ofSeconds(1)) {
+            @Override
+            public void submitApprovals(List<ClaimApprovalDto> approvals) {
+                // Accepted without leaving the process
+            }
+        };
+    }
+}
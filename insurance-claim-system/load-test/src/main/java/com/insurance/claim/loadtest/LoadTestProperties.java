@@ -0,0 +1,39 @@
+package com.insurance.claim.loadtest;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "loadtest")
+public class LoadTestProperties {
+    /** Load applied before measurement starts, to warm up the JIT and caches */
+    private Duration warmup = Duration.ofSeconds(10);
+    /** Measured run length; use hours for a soak test */
+    private Duration duration = Duration.ofSeconds(60);
+    /** Steady-state arrival rate in operations per second */
+    private double rate = 100;
+    /** Arrival rate during the intake burst */
+    private double burstRate = 1000;
+    /** Offset of the intake burst from the start of the measured run */
+    private Duration burstStart = Duration.ofSeconds(20);
+    private Duration burstDuration = Duration.ofSeconds(15);
+    private int policyHolders = 1000;
+    /** Highest tolerated share of failed operations; shed requests do not count as failures */
+    private double maxErrorRate = 0.01;
+    /** Highest tolerated share of operations rejected by admission control, per operation */
+    private double maxShedRate = 0.05;
+    /** Optional directory for per-operation HdrHistogram percentile distributions */
+    private Path reportDirectory;
+    private Map<Operation, Slo> slo = new EnumMap<>(Operation.class);
+
+    @Data
+    public static class Slo {
+        private Duration p95;
+        private Duration p99;
+    }
+}
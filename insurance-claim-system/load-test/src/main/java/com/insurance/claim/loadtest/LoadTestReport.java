@@ -0,0 +1,119 @@
+package com.insurance.claim.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Summarizes a run per operation and checks it against the configured latency SLOs, error budget
+ * and shed budget. Latency percentiles only cover admitted operations, so without the shed budget
+ * a limiter rejecting most of the load would make the run look faster, not worse.
+ */
+public class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final LatencyRecorder recorder;
+    private final LoadTestProperties properties;
+    private final List<String> violations = new ArrayList<>();
+
+    public LoadTestReport(LatencyRecorder recorder, LoadTestProperties properties) {
+        this.recorder = recorder;
+        this.properties = properties;
+        evaluate();
+    }
+
+    public boolean isPassed() {
+        return violations.isEmpty();
+    }
+
+    public List<String> getViolations() {
+        return List.copyOf(violations);
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%-20s %9s %7s %7s %9s %9s %9s %9s%n",
+            "operation", "count", "shed", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = recorder.getHistogram(operation);
+            out.printf("%-20s %9d %7d %7d %9.1f %9.1f %9.1f %9.1f%n",
+                operation,
+                histogram.getTotalCount(),
+                recorder.getShed(operation),
+                recorder.getErrors(operation),
+                histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(95) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI);
+        }
+
+        out.println();
+        if (isPassed()) {
+            out.println("PASSED: all latency SLOs, error and shed budgets met");
+        } else {
+            out.println("FAILED:");
+            violations.forEach(violation -> out.println("  " + violation));
+        }
+    }
+
+    /**
+     * Writes each operation's full percentile distribution, for comparing runs across builds
+     */
+    public void writeDistributions(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Operation operation : Operation.values()) {
+            Path file = directory.resolve(operation.name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                recorder.getHistogram(operation).outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    private void evaluate() {
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = recorder.getHistogram(operation);
+            long succeeded = histogram.getTotalCount();
+            long failed = recorder.getErrors(operation);
+            long shed = recorder.getShed(operation);
+
+            if (succeeded + failed > 0 && (double) failed / (succeeded + failed) > properties.getMaxErrorRate()) {
+                violations.add(String.format("%s error rate %.2f%% exceeds %.2f%%", operation,
+                    100.0 * failed / (succeeded + failed), 100.0 * properties.getMaxErrorRate()));
+            }
+
+            long issued = succeeded + failed + shed;
+            if (issued > 0 && (double) shed / issued > properties.getMaxShedRate()) {
+                violations.add(String.format("%s shed rate %.2f%% exceeds %.2f%%", operation,
+                    100.0 * shed / issued, 100.0 * properties.getMaxShedRate()));
+            }
+
+            LoadTestProperties.Slo slo = properties.getSlo().get(operation);
+            if (slo == null) {
+                continue;
+            }
+            if (succeeded == 0) {
+                violations.add(operation + " has an SLO but completed no operations");
+                continue;
+            }
+            checkPercentile(operation, histogram, 95, slo.getP95());
+            checkPercentile(operation, histogram, 99, slo.getP99());
+        }
+    }
+
+    private void checkPercentile(Operation operation, Histogram histogram, double percentile, Duration target) {
+        if (target == null) {
+            return;
+        }
+        long actualMicros = histogram.getValueAtPercentile(percentile);
+        if (actualMicros > target.toNanos() / 1000) {
+            violations.add(String.format("%s p%.0f %.1f ms exceeds %d ms", operation, percentile,
+                actualMicros / MICROS_PER_MILLI, target.toMillis()));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.insurance.claim.loadtest;
+
+import com.insurance.claim.claimservice.application.admission.ServiceOverloadedException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator. Operations are issued on a fixed arrival schedule regardless of
+ * how fast earlier ones complete, and latency is measured from the scheduled start, so a
+ * stalled service shows up in the percentiles instead of silently lowering the offered load.
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    private static final int MAX_LOGGED_ERRORS = 10;
+
+    private final ClaimWorkload workload;
+    private final LoadTestProperties properties;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final AtomicInteger loggedErrors = new AtomicInteger();
+
+    public LoadTestRunner(ClaimWorkload workload, LoadTestProperties properties) {
+        this.workload = workload;
+        this.properties = properties;
+    }
+
+    public LatencyRecorder run() {
+        // Closing the warmup executor waits for its in-flight operations, so none of them
+        // complete after the reset and end up in the measured results
+        try (ExecutorService warmup = Executors.newVirtualThreadPerTaskExecutor()) {
+            log.info("Warming up for {} at {} ops/s", properties.getWarmup(), properties.getRate());
+            drive(warmup, properties.getWarmup(), false);
+        }
+        recorder.reset();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            log.info("Measuring for {} at {} ops/s with a {} ops/s intake burst of {} at +{}",
+                properties.getDuration(), properties.getRate(), properties.getBurstRate(),
+                properties.getBurstDuration(), properties.getBurstStart());
+            drive(executor, properties.getDuration(), true);
+        }
+        return recorder;
+    }
+
+    private void drive(ExecutorService executor, Duration length, boolean withBurst) {
+        long burstStart = properties.getBurstStart().toNanos();
+        long burstEnd = burstStart + properties.getBurstDuration().toNanos();
+        long start = System.nanoTime();
+        long end = start + length.toNanos();
+
+        long intended = start;
+        while (intended < end) {
+            long elapsed = intended - start;
+            boolean burst = withBurst && elapsed >= burstStart && elapsed < burstEnd;
+            WorkloadMix mix = burst ? WorkloadMix.INTAKE_BURST : WorkloadMix.STEADY;
+            double rate = burst ? properties.getBurstRate() : properties.getRate();
+
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation operation = mix.next();
+            long intendedStart = intended;
+            executor.execute(() -> execute(operation, intendedStart));
+            intended += (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        }
+    }
+
+    private void execute(Operation operation, long intendedStart) {
+        try {
+            if (workload.execute(operation)) {
+                recorder.recordSuccess(operation, System.nanoTime() - intendedStart);
+            }
+        } catch (ServiceOverloadedException e) {
+            recorder.recordShed(operation);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recorder.recordError(operation);
+        } catch (Exception e) {
+            recorder.recordError(operation);
+            if (loggedErrors.incrementAndGet() <= MAX_LOGGED_ERRORS) {
+                log.warn("{} failed", operation, e);
+            }
+        }
+    }
+}
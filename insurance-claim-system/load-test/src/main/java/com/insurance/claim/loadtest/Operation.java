@@ -0,0 +1,15 @@
+package com.insurance.claim.loadtest;
+
+/**
+ * Operations in the claim-service workload
+ */
+public enum Operation {
+    /** Policyholder submits a new claim through ClaimApplicationService */
+    SUBMIT_CLAIM,
+    /** Policyholder dashboard polls their claim statuses over REST */
+    POLL_CLAIMS,
+    /** Adjuster processes a submitted claim and approves or rejects it */
+    ADJUSTER_TRANSITION,
+    /** Policyholder attaches a document to an existing claim */
+    ATTACH_DOCUMENT
+}
@@ -0,0 +1,37 @@
+package com.insurance.claim.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Relative operation weights for the phases of a run, indexed by {@link Operation} ordinal
+ */
+public enum WorkloadMix {
+    /** Normal business day: mostly dashboards polling, with a steady trickle of intake and adjuster work */
+    STEADY(0.25, 0.45, 0.20, 0.10),
+    /** Catastrophe event: intake spikes while adjusters and dashboards keep working */
+    INTAKE_BURST(0.85, 0.10, 0.05, 0.0);
+
+    private final double[] cumulativeWeights;
+
+    WorkloadMix(double... weights) {
+        if (weights.length != Operation.values().length) {
+            throw new IllegalArgumentException("One weight per operation is required");
+        }
+        cumulativeWeights = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public Operation next() {
+        double pick = ThreadLocalRandom.current().nextDouble(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return Operation.values()[i];
+            }
+        }
+        return Operation.values()[cumulativeWeights.length - 1];
+    }
+}